@@ -24,6 +24,102 @@ public class Grafo {
         this.adjacencias[v2].add(v1); // Grafo não direcionado
     }
 
+    // Copia as listas de adjacência para um GrafoCSR (vetores primitivos, imutável).
+    // Cada aresta não direcionada já está nas duas listas, então vira duas arestas no CSR
+    public GrafoCSR paraCSR() {
+        int arestas = 0;
+        for (List<Integer> lista : adjacencias) arestas += lista.size();
+
+        var construtor = new GrafoCSR.Construtor(vertices, arestas);
+        for (int v = 0; v < vertices; v++) {
+            for (int vizinho : adjacencias[v]) construtor.adicionarAresta(v, vizinho);
+        }
+        return construtor.construir();
+    }
+
+    // Copia as listas de adjacência para um GrafoForaDoHeap (vetores em memória nativa, fora do heap).
+    // Os algoritmos de GrafoCompacto (como menorCaminho) rodam sobre ele sem mudança
+    public GrafoForaDoHeap paraForaDoHeap() {
+        int arestas = 0;
+        for (List<Integer> lista : adjacencias) arestas += lista.size();
+
+        var g = new GrafoForaDoHeap(vertices, arestas, false);
+        int e = 0;
+        for (int v = 0; v < vertices; v++) {
+            g.definirInicio(v, e);
+            for (int vizinho : adjacencias[v]) g.definirAresta(e++, vizinho, 1);
+        }
+        g.definirInicio(vertices, e);
+        return g;
+    }
+
+    // BFS otimizada por direção (BFSOtimizadaPorDirecao) a partir da origem, com distância e pai de cada
+    // vértice. Copia as listas para um GrafoCSR a cada chamada: para várias buscas no mesmo grafo,
+    // converta uma vez com paraCSR() e reutilize a mesma BFSOtimizadaPorDirecao
+    public BFSOtimizadaPorDirecao.Resultado bfsOtimizadaPorDirecao(int origem) {
+        return new BFSOtimizadaPorDirecao(paraCSR()).executar(origem); // Não direcionado: não precisa do transposto
+    }
+
+    // BFS sobre um GrafoCompacto (GrafoCSR, GrafoMapeado ou GrafoForaDoHeap): retorna a menor distância (número de arestas) de origem até destino,
+    // ou -1 se não houver caminho. A fila é um vetor int[] (cada vértice entra no máximo uma vez)
+    public static int menorCaminho(GrafoCompacto g, int origem, int destino) {
+        int n = g.quantidadeVertices();
+        int[] distancias = new int[n];
+        Arrays.fill(distancias, -1); // -1 = ainda não visitado
+        int[] fila = new int[n];
+        int frente = 0, fundo = 0;
+
+        fila[fundo++] = origem;
+        distancias[origem] = 0;
+
+        while (frente < fundo) {
+            int atual = fila[frente++];
+            if (atual == destino) return distancias[atual];
+
+            for (int e = g.inicio(atual), fim = g.fim(atual); e < fim; e++) {
+                int vizinho = g.destino(e);
+                if (distancias[vizinho] == -1) {
+                    distancias[vizinho] = distancias[atual] + 1;
+                    fila[fundo++] = vizinho;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Mesma BFS sobre um GrafoComprimido: os vizinhos são decodificados conforme a fila avança
+    public static int menorCaminho(GrafoComprimido g, int origem, int destino) {
+        int n = g.quantidadeVertices();
+        int[] distancias = new int[n];
+        Arrays.fill(distancias, -1); // -1 = ainda não visitado
+        int[] fila = new int[n];
+        int frente = 0, fundo = 0;
+        GrafoComprimido.Cursor cursor = g.cursor();
+
+        fila[fundo++] = origem;
+        distancias[origem] = 0;
+
+        while (frente < fundo) {
+            int atual = fila[frente++];
+            if (atual == destino) return distancias[atual];
+
+            for (cursor.abrir(atual); cursor.temProximo(); ) {
+                int vizinho = cursor.proximo();
+                if (distancias[vizinho] == -1) {
+                    distancias[vizinho] = distancias[atual] + 1;
+                    fila[fundo++] = vizinho;
+                }
+            }
+        }
+        return -1;
+    }
+
+    // Mesma BFS sobre o grafo renumerado de uma Reordenacao, com origem e destino nos números originais
+    // (a distância não muda com a renumeração; só a localidade de memória melhora)
+    public static int menorCaminho(Reordenacao r, int origem, int destino) {
+        return menorCaminho(r.grafo(), r.novo(origem), r.novo(destino));
+    }
+
     // Método que encontra a menor distância (número de arestas) entre dois vértices usando BFS
     public void menorCaminho(int origem, int destino) {
         int[] distancias = new int[vertices];         // Armazena a distância de cada vértice a partir da origem
@@ -58,7 +154,20 @@ public class Grafo {
         System.out.printf("Não há caminho de %d até %d\n", origem, destino);
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws java.io.IOException {
+        // Grafo em arquivo: java Grafo -m grafo.bin origem destino  (binário de ArquivoDeGrafo, mapeado)
+        //                  java Grafo -e arestas.txt origem destino (texto DIMACS/SNAP, LeitorDeArestas)
+        if (args.length == 4 && (args[0].equals("-m") || args[0].equals("-e"))) {
+            java.nio.file.Path arquivo = java.nio.file.Path.of(args[1]);
+            GrafoCompacto g = args[0].equals("-m") ? ArquivoDeGrafo.abrir(arquivo) : LeitorDeArestas.ler(arquivo, true, true);
+            int origem = Integer.parseInt(args[2]);
+            int destino = Integer.parseInt(args[3]);
+            int distancia = menorCaminho(g, origem, destino);
+            if (distancia == -1) System.out.printf("Não há caminho de %d até %d\n", origem, destino);
+            else System.out.printf("Distância mínima de %d até %d é %d\n", origem, destino, distancia);
+            return;
+        }
+
         // O primeiro argumento indica a quantidade de vértices
         int vertices = Integer.parseInt(args[0]);
         Grafo grafo = new Grafo(vertices); // Cria o grafo com o número de vértices
@@ -0,0 +1,278 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+// BFS que alterna entre duas direções de busca a cada nível (direction-optimizing BFS, de Beamer et al.):
+//   - de cima para baixo (a BFS comum): cada vértice da fronteira examina seus vizinhos e reivindica
+//     os ainda não visitados. Boa quando a fronteira é pequena;
+//   - de baixo para cima: cada vértice ainda não visitado procura um pai entre os vizinhos que estão
+//     na fronteira (guardada em um mapa de bits) e para no primeiro que achar. Boa quando a fronteira
+//     é enorme: em grafos de diâmetro pequeno com graus muito desiguais (redes sociais, web), dois ou
+//     três níveis contêm quase o grafo todo, e a busca de cima para baixo examinaria quase todas as
+//     arestas só para descobrir vizinhos já visitados.
+// A troca segue as heurísticas do artigo:
+//   cima -> baixo quando as arestas da fronteira (mf) passam de arestasNaoVisitadas / alfa e a fronteira cresce;
+//   baixo -> cima quando a fronteira (nf) está diminuindo e fica menor que n / beta.
+// A busca de baixo para cima percorre as arestas que CHEGAM em cada vértice: em grafo não direcionado
+// (como os da BFS) são as mesmas que saem; em grafo direcionado, passe também o grafo transposto.
+// Cada instância guarda seus vetores de trabalho: use uma instância por thread.
+// A partir de um Grafo com listas de adjacência, use grafo.bfsOtimizadaPorDirecao(origem).
+public final class BFSOtimizadaPorDirecao {
+    public static final int ALFA_PADRAO = 15; // Valores sugeridos no artigo
+    public static final int BETA_PADRAO = 18;
+
+    private final GrafoCompacto saida;   // Arestas que saem de cada vértice (cima para baixo)
+    private final GrafoCompacto entrada; // Arestas que chegam em cada vértice (baixo para cima)
+    private int alfa = ALFA_PADRAO;
+    private int beta = BETA_PADRAO;
+
+    private final int[] fronteira;  // Fronteira em lista (cima para baixo)
+    private final int[] proxima;
+    private final long[] bitsFronteira; // Fronteira em mapa de bits (baixo para cima)
+    private final long[] bitsProxima;
+
+    // Grafo não direcionado (cada aresta aparece nos dois sentidos)
+    public BFSOtimizadaPorDirecao(GrafoCompacto g) {
+        this(g, g);
+    }
+
+    // Grafo direcionado: 'entrada' é o transposto de 'saida' (mesmos vértices, arestas invertidas)
+    public BFSOtimizadaPorDirecao(GrafoCompacto saida, GrafoCompacto entrada) {
+        if (saida.quantidadeVertices() != entrada.quantidadeVertices()) {
+            throw new IllegalArgumentException("O grafo transposto deve ter os mesmos vértices");
+        }
+        this.saida = saida;
+        this.entrada = entrada;
+        int n = saida.quantidadeVertices();
+        fronteira = new int[n];
+        proxima = new int[n];
+        bitsFronteira = new long[(n + 63) >>> 6];
+        bitsProxima = new long[(n + 63) >>> 6];
+    }
+
+    // Ajusta as heurísticas de troca. alfa = 0 desliga a busca de baixo para cima (BFS comum)
+    public BFSOtimizadaPorDirecao parametros(int alfa, int beta) {
+        if (alfa < 0 || beta <= 0) throw new IllegalArgumentException("Parâmetros inválidos: alfa=" + alfa + ", beta=" + beta);
+        this.alfa = alfa;
+        this.beta = beta;
+        return this;
+    }
+
+    // Executa a BFS a partir da origem e devolve distâncias, pais e as estatísticas de cada nível
+    public Resultado executar(int origem) {
+        int n = saida.quantidadeVertices();
+        int[] distancia = new int[n];
+        int[] pai = new int[n];
+        Arrays.fill(distancia, -1); // -1 = não alcançado
+        Arrays.fill(pai, -1);
+        List<Nivel> niveis = new ArrayList<>();
+
+        distancia[origem] = 0;
+        fronteira[0] = origem;
+        int tamanho = 1;                               // nf: vértices na fronteira
+        long arestasDaFronteira = saida.grau(origem);  // mf: arestas que saem da fronteira
+        long arestasNaoVisitadas = saida.quantidadeArestas() - arestasDaFronteira; // mu
+        int tamanhoAnterior = 0;
+        boolean deBaixoParaCima = false;
+        boolean emBits = false; // Indica em qual formato a fronteira atual está
+
+        for (int profundidade = 0; tamanho > 0; profundidade++) {
+            // Decide a direção deste nível
+            boolean crescendo = tamanho > tamanhoAnterior;
+            if (!deBaixoParaCima) {
+                if (alfa > 0 && crescendo && arestasDaFronteira > arestasNaoVisitadas / alfa) deBaixoParaCima = true;
+            } else if (!crescendo && tamanho < n / beta) {
+                deBaixoParaCima = false;
+            }
+
+            long inicio = System.nanoTime();
+            long examinadas;
+            tamanhoAnterior = tamanho;
+            if (deBaixoParaCima) {
+                if (!emBits) paraBits(tamanho);
+                long[] passo = passoDeBaixoParaCima(profundidade, distancia, pai);
+                tamanho = (int) passo[0];
+                arestasDaFronteira = passo[1];
+                examinadas = passo[2];
+                emBits = true;
+            } else {
+                if (emBits) tamanho = paraLista();
+                long[] passo = passoDeCimaParaBaixo(tamanho, profundidade, distancia, pai);
+                tamanho = (int) passo[0];
+                arestasDaFronteira = passo[1];
+                examinadas = passo[2];
+                emBits = false;
+            }
+            arestasNaoVisitadas -= arestasDaFronteira;
+            niveis.add(new Nivel(profundidade, deBaixoParaCima, tamanhoAnterior, examinadas, System.nanoTime() - inicio));
+        }
+        return new Resultado(distancia, pai, niveis);
+    }
+
+    // Cada vértice da fronteira reivindica os vizinhos não visitados.
+    // Devolve {tamanho da próxima fronteira, arestas que saem dela, arestas examinadas}
+    private long[] passoDeCimaParaBaixo(int tamanho, int profundidade, int[] distancia, int[] pai) {
+        int novos = 0;
+        long arestasNovas = 0, examinadas = 0;
+        for (int i = 0; i < tamanho; i++) {
+            int u = fronteira[i];
+            int fim = saida.fim(u);
+            examinadas += fim - saida.inicio(u);
+            for (int e = saida.inicio(u); e < fim; e++) {
+                int v = saida.destino(e);
+                if (distancia[v] != -1) continue;
+                distancia[v] = profundidade + 1;
+                pai[v] = u;
+                proxima[novos++] = v;
+                arestasNovas += saida.grau(v);
+            }
+        }
+        System.arraycopy(proxima, 0, fronteira, 0, novos);
+        return new long[] {novos, arestasNovas, examinadas};
+    }
+
+    // Cada vértice não visitado procura um vizinho na fronteira e para no primeiro.
+    // Devolve {tamanho da próxima fronteira, arestas que saem dela, arestas examinadas}
+    private long[] passoDeBaixoParaCima(int profundidade, int[] distancia, int[] pai) {
+        int n = saida.quantidadeVertices();
+        Arrays.fill(bitsProxima, 0);
+        int novos = 0;
+        long arestasNovas = 0, examinadas = 0;
+        for (int v = 0; v < n; v++) {
+            if (distancia[v] != -1) continue;
+            for (int e = entrada.inicio(v), fim = entrada.fim(v); e < fim; e++) {
+                examinadas++;
+                int u = entrada.destino(e);
+                if ((bitsFronteira[u >>> 6] & (1L << u)) == 0) continue;
+                distancia[v] = profundidade + 1;
+                pai[v] = u;
+                bitsProxima[v >>> 6] |= 1L << v;
+                novos++;
+                arestasNovas += saida.grau(v);
+                break;
+            }
+        }
+        System.arraycopy(bitsProxima, 0, bitsFronteira, 0, bitsFronteira.length);
+        return new long[] {novos, arestasNovas, examinadas};
+    }
+
+    // Converte a fronteira da lista para o mapa de bits
+    private void paraBits(int tamanho) {
+        Arrays.fill(bitsFronteira, 0);
+        for (int i = 0; i < tamanho; i++) bitsFronteira[fronteira[i] >>> 6] |= 1L << fronteira[i];
+    }
+
+    // Converte a fronteira do mapa de bits para a lista (em ordem crescente) e devolve o tamanho
+    private int paraLista() {
+        int tamanho = 0;
+        for (int w = 0; w < bitsFronteira.length; w++) {
+            for (long bits = bitsFronteira[w]; bits != 0; bits &= bits - 1) {
+                fronteira[tamanho++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return tamanho;
+    }
+
+    // Estatísticas de um nível da BFS
+    public static final class Nivel {
+        public final int profundidade;
+        public final boolean deBaixoParaCima;
+        public final int fronteira;     // Vértices na fronteira ao começar o nível
+        public final long examinadas;   // Arestas examinadas no nível
+        public final long nanos;
+
+        Nivel(int profundidade, boolean deBaixoParaCima, int fronteira, long examinadas, long nanos) {
+            this.profundidade = profundidade;
+            this.deBaixoParaCima = deBaixoParaCima;
+            this.fronteira = fronteira;
+            this.examinadas = examinadas;
+            this.nanos = nanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("nível %2d  %-15s fronteira %10d  arestas examinadas %12d  %8.2f ms",
+                profundidade, deBaixoParaCima ? "baixo p/ cima" : "cima p/ baixo", fronteira, examinadas, nanos / 1e6);
+        }
+    }
+
+    // Resultado de uma execução: distancia[v] (-1 se não alcançado), pai[v] na árvore da BFS
+    // (-1 para a origem e para os não alcançados) e as estatísticas por nível
+    public static final class Resultado {
+        public final int[] distancia;
+        public final int[] pai;
+        public final List<Nivel> niveis;
+
+        Resultado(int[] distancia, int[] pai, List<Nivel> niveis) {
+            this.distancia = distancia;
+            this.pai = pai;
+            this.niveis = Collections.unmodifiableList(niveis);
+        }
+
+        // Total de arestas examinadas em todos os níveis
+        public long arestasExaminadas() {
+            long total = 0;
+            for (Nivel nivel : niveis) total += nivel.examinadas;
+            return total;
+        }
+
+        // Caminho da origem até v pela árvore da BFS (vazio se v não foi alcançado)
+        public int[] caminhoAte(int v) {
+            if (distancia[v] == -1) return new int[0];
+            int[] caminho = new int[distancia[v] + 1];
+            for (int i = caminho.length - 1; i >= 0; i--, v = pai[v]) caminho[i] = v;
+            return caminho;
+        }
+    }
+
+    // Compara a BFS comum com a otimizada por direção em um grafo R-MAT (graus em lei de potência,
+    // diâmetro pequeno, como os grafos do Graph500)
+    // Uso: java BFSOtimizadaPorDirecao [escala (2^escala vértices)] [arestas por vértice]
+    public static void main(String[] args) {
+        int escala = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int fator = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        GrafoCSR g = GeradorDeGrafos.rmat(escala, fator);
+        int origem = 0;
+        while (g.grau(origem) == 0) origem++;
+        System.out.printf("%d vértices, %d arestas, origem %d\n", g.quantidadeVertices(), g.quantidadeArestas(), origem);
+
+        var bfs = new BFSOtimizadaPorDirecao(g);
+        int[] esperado = null; // Distâncias da BFS só de cima para baixo (referência)
+        for (boolean otimizada : new boolean[] {false, true}) {
+            bfs.parametros(otimizada ? ALFA_PADRAO : 0, BETA_PADRAO);
+            Resultado resultado = null;
+            long melhor = Long.MAX_VALUE;
+            for (int rodada = 0; rodada < 5; rodada++) {
+                long inicio = System.nanoTime();
+                resultado = bfs.executar(origem);
+                melhor = Math.min(melhor, System.nanoTime() - inicio);
+            }
+            if (esperado == null) esperado = resultado.distancia;
+            else if (!Arrays.equals(resultado.distancia, esperado)) throw new IllegalStateException("Distâncias diferentes da BFS só de cima para baixo");
+            verificarPais(g, origem, resultado);
+            System.out.printf("\n%s: %.1f ms, %d arestas examinadas\n",
+                otimizada ? "Otimizada por direção" : "Só de cima para baixo", melhor / 1e6, resultado.arestasExaminadas());
+            for (Nivel nivel : resultado.niveis) System.out.println("  " + nivel);
+        }
+    }
+
+    // Confere a árvore da BFS: todo vértice alcançado v != origem tem como pai um vizinho de entrada
+    // (aresta pai[v] -> v) que está exatamente um nível acima
+    private static void verificarPais(GrafoCompacto g, int origem, Resultado resultado) {
+        int n = g.quantidadeVertices();
+        boolean[] arestaDoPai = new boolean[n];
+        for (int u = 0; u < n; u++) {
+            for (int e = g.inicio(u), fim = g.fim(u); e < fim; e++) {
+                if (resultado.pai[g.destino(e)] == u) arestaDoPai[g.destino(e)] = true;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            if (v == origem || resultado.distancia[v] == -1) continue;
+            int pai = resultado.pai[v];
+            if (pai < 0 || !arestaDoPai[v] || resultado.distancia[pai] != resultado.distancia[v] - 1) {
+                throw new IllegalStateException("Pai inválido para o vértice " + v + ": " + pai);
+            }
+        }
+    }
+}
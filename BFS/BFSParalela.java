@@ -0,0 +1,176 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+// BFS em paralelo, um nível por vez (level-synchronous): todos os vértices da fronteira do nível d
+// são processados ao mesmo tempo por várias threads, e só depois começa o nível d + 1.
+// - Os vértices visitados ficam em um mapa de bits (1 bit por vértice, cabe no cache muito melhor que
+//   um int por vértice). Uma thread só reivindica um vértice se conseguir ligar o bit dele com
+//   compareAndSet; antes do CAS o bit é lido sem sincronização, e a grande maioria dos vizinhos
+//   (já visitados) é descartada sem nenhuma operação atômica;
+// - a fronteira é dividida em pedaços, e cada tarefa escreve os vértices que reivindicou no seu
+//   próprio buffer (sem disputa com as outras threads). No fim do nível os buffers são concatenados
+//   na próxima fronteira. Os buffers são reaproveitados de um nível para o outro;
+// - a distância de um vértice é gravada só por quem o reivindicou, e o fim de cada nível
+//   (invokeAll) garante que as outras threads vejam as gravações.
+// Quem reivindica cada vértice (e portanto a ordem da fronteira) pode mudar de uma execução para
+// outra, mas as distâncias são sempre as mesmas da BFS sequencial.
+public class BFSParalela {
+    private static final VarHandle BITS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final ForkJoinPool pool;
+
+    // Construtor: usa o pool comum (todos os núcleos)
+    public BFSParalela() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    // Construtor que escolhe o pool de threads
+    public BFSParalela(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    // Retorna a distância (número de arestas) da origem até cada vértice, ou -1 se não alcançável
+    public int[] executar(GrafoCompacto g, int origem) {
+        int n = g.quantidadeVertices();
+        int[] distancia = new int[n];
+        Arrays.fill(distancia, -1);
+        long[] visitado = new long[(n + 63) >>> 6];
+
+        // Mais pedaços que threads: em grafos com graus muito desiguais um pedaço com um vértice
+        // de grau enorme demora mais, e as outras threads roubam os pedaços que sobraram
+        int maximoDePedacos = pool.getParallelism() * 8;
+        ListaDeInteiros[] buffers = new ListaDeInteiros[maximoDePedacos];
+        for (int p = 0; p < maximoDePedacos; p++) buffers[p] = new ListaDeInteiros();
+
+        int[] fronteira = new int[n];
+        int tamanho = 1;
+        fronteira[0] = origem;
+        visitado[origem >>> 6] |= 1L << origem;
+        distancia[origem] = 0;
+
+        for (int profundidade = 1; tamanho > 0; profundidade++) {
+            int pedacos = Math.min(maximoDePedacos, (tamanho + 63) / 64); // Pelo menos ~64 vértices por pedaço
+            List<Callable<Void>> tarefas = new ArrayList<>(pedacos);
+            for (int p = 0; p < pedacos; p++) {
+                int inicio = (int) ((long) tamanho * p / pedacos);
+                int fim = (int) ((long) tamanho * (p + 1) / pedacos);
+                ListaDeInteiros buffer = buffers[p];
+                int[] atual = fronteira;
+                int nivel = profundidade;
+                tarefas.add(() -> {
+                    expandir(g, atual, inicio, fim, nivel, visitado, distancia, buffer);
+                    return null;
+                });
+            }
+            executarTodas(tarefas);
+
+            // Concatena os buffers na próxima fronteira (a fronteira atual já foi toda lida)
+            tamanho = 0;
+            for (int p = 0; p < pedacos; p++) {
+                System.arraycopy(buffers[p].dados, 0, fronteira, tamanho, buffers[p].tamanho);
+                tamanho += buffers[p].tamanho;
+                buffers[p].tamanho = 0;
+            }
+        }
+        return distancia;
+    }
+
+    // Menor distância da origem até o destino (-1 se não houver caminho)
+    public int menorCaminho(GrafoCompacto g, int origem, int destino) {
+        return executar(g, origem)[destino];
+    }
+
+    // Examina os vizinhos dos vértices fronteira[inicio .. fim-1] e reivindica os não visitados
+    private static void expandir(GrafoCompacto g, int[] fronteira, int inicio, int fim, int profundidade,
+                                 long[] visitado, int[] distancia, ListaDeInteiros proximos) {
+        for (int i = inicio; i < fim; i++) {
+            int u = fronteira[i];
+            for (int e = g.inicio(u), ultima = g.fim(u); e < ultima; e++) {
+                int v = g.destino(e);
+                if (reivindicar(visitado, v)) {
+                    distancia[v] = profundidade;
+                    proximos.adicionar(v);
+                }
+            }
+        }
+    }
+
+    // Liga o bit de v; retorna true só para a thread que o ligou
+    private static boolean reivindicar(long[] visitado, int v) {
+        int palavra = v >>> 6;
+        long bit = 1L << v;
+        if ((visitado[palavra] & bit) != 0) return false; // Leitura comum: quase sempre já visitado
+        long atual = (long) BITS.getVolatile(visitado, palavra);
+        while ((atual & bit) == 0) {
+            if (BITS.compareAndSet(visitado, palavra, atual, atual | bit)) return true;
+            atual = (long) BITS.getVolatile(visitado, palavra); // Outro bit da mesma palavra mudou
+        }
+        return false;
+    }
+
+    private void executarTodas(List<Callable<Void>> tarefas) {
+        try {
+            for (var tarefa : pool.invokeAll(tarefas)) tarefa.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("BFS paralela interrompida", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    // Vetor de inteiros que cresce conforme necessário (evita List<Integer> e o boxing)
+    private static class ListaDeInteiros {
+        int[] dados = new int[1024];
+        int tamanho = 0;
+
+        void adicionar(int x) {
+            if (tamanho == dados.length) dados = Arrays.copyOf(dados, tamanho + (tamanho >> 1));
+            dados[tamanho++] = x;
+        }
+    }
+
+    // Compara a BFS sequencial com a paralela (com 1, 2, 4... threads) em um grafo R-MAT
+    // Uso: java BFSParalela [escala (2^escala vértices)] [arestas por vértice] [máximo de threads]
+    public static void main(String[] args) {
+        int escala = args.length > 0 ? Integer.parseInt(args[0]) : 20;
+        int fator = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int maximoDeThreads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        GrafoCSR g = GeradorDeGrafos.rmat(escala, fator);
+        int origem = 0;
+        while (g.grau(origem) == 0) origem++;
+        System.out.printf("%d vértices, %d arestas\n", g.quantidadeVertices(), g.quantidadeArestas());
+
+        // Referência: BFS sequencial comum (só de cima para baixo)
+        var sequencial = new BFSOtimizadaPorDirecao(g).parametros(0, BFSOtimizadaPorDirecao.BETA_PADRAO);
+        int[] esperado = null;
+        long tempoSequencial = Long.MAX_VALUE;
+        for (int rodada = 0; rodada < 3; rodada++) {
+            long inicio = System.nanoTime();
+            esperado = sequencial.executar(origem).distancia;
+            tempoSequencial = Math.min(tempoSequencial, System.nanoTime() - inicio);
+        }
+        System.out.printf("Sequencial: %.1f ms\n", tempoSequencial / 1e6);
+
+        for (int threads = 1; threads <= maximoDeThreads; threads *= 2) {
+            var pool = new ForkJoinPool(threads);
+            var bfs = new BFSParalela(pool);
+            long melhor = Long.MAX_VALUE;
+            for (int rodada = 0; rodada < 3; rodada++) {
+                long inicio = System.nanoTime();
+                int[] distancia = bfs.executar(g, origem);
+                melhor = Math.min(melhor, System.nanoTime() - inicio);
+                if (!Arrays.equals(distancia, esperado)) throw new IllegalStateException("Distâncias diferentes da BFS sequencial");
+            }
+            pool.shutdown();
+            System.out.printf("%2d threads: %.1f ms (%.2fx a sequencial)\n", threads, melhor / 1e6, (double) tempoSequencial / melhor);
+        }
+    }
+}
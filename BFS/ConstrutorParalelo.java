@@ -0,0 +1,342 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+
+// Monta um GrafoCSR com arestas vindas de várias threads ao mesmo tempo.
+// Cada produtor (uma tarefa paralela) escreve no seu próprio Buffer, obtido com novoBuffer() (vetores
+// int[] sem sincronização). Em construir(), as arestas de todos os buffers
+// são agrupadas por vértice de origem com uma ordenação por contagem paralela em duas passadas:
+//   1. os vértices são divididos em faixas; cada trecho de buffer conta quantas arestas tem em cada
+//      faixa e as copia para a região daquela faixa em um vetor intermediário;
+//   2. cada faixa é então ordenada por contagem por uma única thread (grau, soma de prefixos, cópia).
+// Nenhuma passada usa operações atômicas: cada thread escreve só em posições que são dela.
+// (Um incremento atômico por aresta em posições aleatórias chega a ser 10x mais lento que a cópia.)
+// Como a ordem das arestas de um vértice depende das threads, os vizinhos de cada vértice são
+// ordenados no final, o que deixa o resultado sempre igual. Opcionalmente remove laços (u -> u)
+// e arestas repetidas (fica a de menor peso).
+// construir() só pode ser chamado depois que todos os produtores terminaram. Ele esvazia os buffers
+// assim que copia as arestas, para que elas não ocupem memória duas vezes durante a ordenação.
+// Os buffers pertencem só a este construtor (nada fica preso às threads do pool, como em um ThreadLocal).
+public final class ConstrutorParalelo {
+    private final int vertices; // -1: descobre pelo maior vértice usado
+    private int verticesMinimos = 0; // Sem 'vertices' fixo: o grafo tem pelo menos esta quantidade
+    private boolean removerLacos = false;
+    private boolean removerRepetidas = false;
+
+    private final List<Buffer> buffers = new CopyOnWriteArrayList<>();
+    private Buffer bufferComum; // Usado pelos atalhos adicionarAresta (criado na primeira chamada)
+
+    // Construtor: recebe a quantidade de vértices
+    public ConstrutorParalelo(int vertices) {
+        if (vertices < 0) throw new IllegalArgumentException("Quantidade de vértices negativa: " + vertices);
+        this.vertices = vertices;
+    }
+
+    // Construtor que descobre a quantidade de vértices pelo maior vértice das arestas (maior + 1)
+    public ConstrutorParalelo() {
+        this.vertices = -1;
+    }
+
+    // Descarta arestas de um vértice para ele mesmo
+    public ConstrutorParalelo removerLacos() {
+        this.removerLacos = true;
+        return this;
+    }
+
+    // Mantém só uma aresta para cada par (origem, destino): a de menor peso
+    public ConstrutorParalelo removerRepetidas() {
+        this.removerRepetidas = true;
+        return this;
+    }
+
+    // Sem quantidade fixa de vértices: garante que o grafo terá pelo menos 'quantidade' vértices
+    // (ex.: vértices isolados no fim, declarados no cabeçalho de um arquivo)
+    public synchronized void garantirVertices(int quantidade) {
+        verticesMinimos = Math.max(verticesMinimos, quantidade);
+    }
+
+    // Cria um buffer novo para um produtor. Cada tarefa paralela pede o seu no começo e escreve só nele
+    public Buffer novoBuffer() {
+        var buffer = new Buffer();
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    // Atalhos para um produtor só: escrevem em um buffer comum, com sincronização (podem ser chamados
+    // de várias threads, mas elas disputam o mesmo lock; produtores paralelos devem usar novoBuffer())
+    public synchronized void adicionarAresta(int origem, int destino) {
+        comum().adicionarAresta(origem, destino);
+    }
+
+    public synchronized void adicionarAresta(int origem, int destino, int peso) {
+        comum().adicionarAresta(origem, destino, peso);
+    }
+
+    public synchronized void adicionarArestaNaoDirecionada(int v1, int v2) {
+        comum().adicionarArestaNaoDirecionada(v1, v2);
+    }
+
+    public synchronized void adicionarArestaNaoDirecionada(int v1, int v2, int peso) {
+        comum().adicionarArestaNaoDirecionada(v1, v2, peso);
+    }
+
+    private Buffer comum() {
+        if (bufferComum == null) bufferComum = novoBuffer();
+        return bufferComum;
+    }
+
+    // Agrupa as arestas de todos os buffers por vértice de origem, em paralelo
+    public GrafoCSR construir() {
+        Buffer[] todos = buffers.toArray(new Buffer[0]);
+        int n = vertices >= 0 ? vertices : verticesMinimos;
+        long total = 0;
+        boolean temPesos = false;
+        for (Buffer b : todos) {
+            if (vertices < 0) n = Math.max(n, b.maiorVertice + 1);
+            total += b.quantidade;
+            temPesos |= b.pesos != null;
+        }
+        if (total > Integer.MAX_VALUE - 8) throw new IllegalStateException("Arestas demais para um GrafoCSR: " + total);
+        for (Buffer b : todos) {
+            if (b.maiorVertice >= n) throw new IndexOutOfBoundsException("Vértice " + b.maiorVertice + " fora do grafo de " + n + " vértices");
+        }
+
+        // Trechos de tamanho parecido de cada buffer, para dividir o trabalho entre as threads
+        int partes = Runtime.getRuntime().availableProcessors() * 4;
+        int[][] trechos = dividir(todos, partes);
+
+        // Faixas de vértices: a faixa f tem os vértices [f * tamanhoFaixa, (f + 1) * tamanhoFaixa)
+        int faixas = Math.max(1, Math.min(n, partes * 4));
+        int tamanhoFaixa = Math.max(1, (n + faixas - 1) / faixas);
+        final int totalVertices = n;
+
+        // 1. Quantas arestas cada trecho tem em cada faixa
+        int[][] contagem = new int[trechos.length][faixas + 1];
+        IntStream.range(0, trechos.length).parallel().forEach(t -> {
+            Buffer b = todos[trechos[t][0]];
+            int[] c = contagem[t];
+            for (int i = trechos[t][1]; i < trechos[t][2]; i++) {
+                if (removerLacos && b.origens[i] == b.destinos[i]) continue;
+                c[b.origens[i] / tamanhoFaixa]++;
+            }
+        });
+
+        // Posição de cada (faixa, trecho) no vetor intermediário: faixa por faixa, trecho por trecho
+        int[] inicioFaixa = new int[faixas + 1];
+        int[][] posicao = new int[trechos.length][faixas];
+        int acumulado = 0;
+        for (int f = 0; f < faixas; f++) {
+            inicioFaixa[f] = acumulado;
+            for (int t = 0; t < trechos.length; t++) {
+                posicao[t][f] = acumulado;
+                acumulado += contagem[t][f];
+            }
+        }
+        inicioFaixa[faixas] = acumulado;
+        int m = acumulado;
+
+        // 2. Cada trecho copia as suas arestas para as regiões das faixas
+        int[] origensPorFaixa = new int[m];
+        int[] destinosPorFaixa = new int[m];
+        int[] pesosPorFaixa = temPesos ? new int[m] : null;
+        IntStream.range(0, trechos.length).parallel().forEach(t -> {
+            Buffer b = todos[trechos[t][0]];
+            int[] p = posicao[t];
+            for (int i = trechos[t][1]; i < trechos[t][2]; i++) {
+                if (removerLacos && b.origens[i] == b.destinos[i]) continue;
+                int e = p[b.origens[i] / tamanhoFaixa]++;
+                origensPorFaixa[e] = b.origens[i];
+                destinosPorFaixa[e] = b.destinos[i];
+                if (pesosPorFaixa != null) pesosPorFaixa[e] = b.pesos != null ? b.pesos[i] : 1;
+            }
+        });
+        for (Buffer b : todos) b.esvaziar();
+
+        // 3. Cada faixa é ordenada por contagem de forma independente. As arestas da faixa f já
+        //    ocupam as posições inicioFaixa[f] .. inicioFaixa[f+1]-1, que são as mesmas no resultado
+        int[] inicio = new int[n + 1];
+        int[] destinos = new int[m];
+        int[] pesos = temPesos ? new int[m] : null;
+        IntStream.range(0, faixas).parallel().forEach(f -> {
+            int primeiro = f * tamanhoFaixa;
+            int ultimo = Math.min(totalVertices, primeiro + tamanhoFaixa); // Exclusivo
+            if (primeiro >= ultimo) return;
+
+            // Grau de cada vértice da faixa (em um vetor local: inicio[ultimo] pertence à próxima faixa)
+            int[] proxima = new int[ultimo - primeiro];
+            for (int e = inicioFaixa[f]; e < inicioFaixa[f + 1]; e++) proxima[origensPorFaixa[e] - primeiro]++;
+
+            // Soma de prefixos a partir do começo da faixa; proxima[u] passa a ser a próxima posição livre de u
+            int soma = inicioFaixa[f];
+            for (int u = primeiro; u < ultimo; u++) {
+                int grau = proxima[u - primeiro];
+                inicio[u] = soma;
+                proxima[u - primeiro] = soma;
+                soma += grau;
+            }
+
+            // Cópia para a posição final
+            for (int e = inicioFaixa[f]; e < inicioFaixa[f + 1]; e++) {
+                int destino = proxima[origensPorFaixa[e] - primeiro]++;
+                destinos[destino] = destinosPorFaixa[e];
+                if (pesos != null) pesos[destino] = pesosPorFaixa[e];
+            }
+        });
+        inicio[n] = m;
+
+        // 4. Ordena os vizinhos de cada vértice (por destino e depois por peso); se pedido,
+        //    conta quantos sobram sem repetição em grauFinal
+        int[] grauFinal = removerRepetidas ? new int[n + 1] : null;
+        IntStream.range(0, n).parallel().forEach(u -> {
+            int de = inicio[u], ate = inicio[u + 1];
+            if (pesos == null) {
+                Arrays.sort(destinos, de, ate);
+            } else if (ate - de > 1) {
+                long[] pares = new long[ate - de];
+                // Destino nos 32 bits altos e peso nos baixos (com o bit de sinal invertido,
+                // para que pesos negativos fiquem antes dos positivos)
+                for (int e = de; e < ate; e++) pares[e - de] = ((long) destinos[e] << 32) | ((pesos[e] ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+                Arrays.sort(pares);
+                for (int e = de; e < ate; e++) {
+                    destinos[e] = (int) (pares[e - de] >>> 32);
+                    pesos[e] = (int) pares[e - de] ^ Integer.MIN_VALUE;
+                }
+            }
+            if (grauFinal != null) {
+                int distintos = 0;
+                for (int e = de; e < ate; e++) {
+                    if (e == de || destinos[e] != destinos[e - 1]) distintos++;
+                }
+                grauFinal[u + 1] = distintos;
+            }
+        });
+        if (grauFinal == null) return new GrafoCSR(inicio, destinos, pesos);
+
+        // 5. Compacta sem as repetidas (a primeira de cada destino é a de menor peso, pela ordenação)
+        Arrays.parallelPrefix(grauFinal, Integer::sum);
+        int[] destinosUnicos = new int[grauFinal[n]];
+        int[] pesosUnicos = pesos == null ? null : new int[grauFinal[n]];
+        IntStream.range(0, n).parallel().forEach(u -> {
+            int p = grauFinal[u];
+            for (int e = inicio[u]; e < inicio[u + 1]; e++) {
+                if (e > inicio[u] && destinos[e] == destinos[e - 1]) continue;
+                destinosUnicos[p] = destinos[e];
+                if (pesosUnicos != null) pesosUnicos[p] = pesos[e];
+                p++;
+            }
+        });
+        return new GrafoCSR(grauFinal, destinosUnicos, pesosUnicos);
+    }
+
+    // Divide as arestas dos buffers em trechos {buffer, inicio, fim} de até ~total/partes arestas
+    private static int[][] dividir(Buffer[] buffers, int partes) {
+        long total = 0;
+        for (Buffer b : buffers) total += b.quantidade;
+        int tamanho = (int) Math.max(1 << 16, (total + partes - 1) / Math.max(1, partes));
+
+        int quantidade = 0;
+        for (Buffer b : buffers) quantidade += (b.quantidade + tamanho - 1) / tamanho;
+        int[][] trechos = new int[quantidade][];
+        int t = 0;
+        for (int i = 0; i < buffers.length; i++) {
+            for (int de = 0; de < buffers[i].quantidade; de += tamanho) {
+                trechos[t++] = new int[] {i, de, Math.min(buffers[i].quantidade, de + tamanho)};
+            }
+        }
+        return trechos;
+    }
+
+    // Arestas de um produtor. Não é seguro para várias threads: cada thread usa o seu
+    public final class Buffer {
+        private int[] origens = new int[1024];
+        private int[] destinos = new int[1024];
+        private int[] pesos;        // Só é criado quando a primeira aresta com peso diferente de 1 aparece
+        private int quantidade = 0;
+        private int maiorVertice = -1;
+
+        private Buffer() {
+        }
+
+        public void adicionarAresta(int origem, int destino) {
+            adicionarAresta(origem, destino, 1);
+        }
+
+        public void adicionarAresta(int origem, int destino, int peso) {
+            if (origem < 0 || destino < 0 || (vertices >= 0 && (origem >= vertices || destino >= vertices))) {
+                throw new IndexOutOfBoundsException("Aresta " + origem + " -> " + destino + " fora do grafo");
+            }
+            if (quantidade == origens.length) crescer();
+            if (pesos == null && peso != 1) {
+                pesos = new int[origens.length];
+                Arrays.fill(pesos, 0, quantidade, 1);
+            }
+            origens[quantidade] = origem;
+            destinos[quantidade] = destino;
+            if (pesos != null) pesos[quantidade] = peso;
+            quantidade++;
+            maiorVertice = Math.max(maiorVertice, Math.max(origem, destino));
+        }
+
+        public void adicionarArestaNaoDirecionada(int v1, int v2) {
+            adicionarAresta(v1, v2, 1);
+            adicionarAresta(v2, v1, 1);
+        }
+
+        public void adicionarArestaNaoDirecionada(int v1, int v2, int peso) {
+            adicionarAresta(v1, v2, peso);
+            adicionarAresta(v2, v1, peso);
+        }
+
+        // Quantidade de arestas neste buffer
+        public int quantidadeArestas() {
+            return quantidade;
+        }
+
+        // Descarta as arestas e devolve a memória dos vetores
+        private void esvaziar() {
+            origens = new int[1024];
+            destinos = new int[1024];
+            pesos = null;
+            quantidade = 0;
+            maiorVertice = -1;
+        }
+
+        private void crescer() {
+            if (quantidade == Integer.MAX_VALUE - 8) throw new IllegalStateException("Arestas demais em um único buffer");
+            int novaCapacidade = (int) Math.min(Integer.MAX_VALUE - 8L, origens.length + (origens.length >> 1) + 1L);
+            origens = Arrays.copyOf(origens, novaCapacidade);
+            destinos = Arrays.copyOf(destinos, novaCapacidade);
+            if (pesos != null) pesos = Arrays.copyOf(pesos, novaCapacidade);
+        }
+    }
+
+    // Monta o mesmo grafo aleatório com o Construtor sequencial e com este, em paralelo
+    // Uso: java ConstrutorParalelo [vertices] [arestas]
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 100_000_000;
+
+        long inicio = System.nanoTime();
+        var sequencial = new GrafoCSR.Construtor(n, m);
+        var rnd = new java.util.SplittableRandom(42);
+        for (int i = 0; i < m; i++) sequencial.adicionarAresta(rnd.nextInt(n), rnd.nextInt(n));
+        GrafoCSR a = sequencial.construir();
+        long meio = System.nanoTime();
+
+        var paralelo = new ConstrutorParalelo(n);
+        IntStream.range(0, 64).parallel().forEach(parte -> {
+            var rndParte = new java.util.SplittableRandom(parte);
+            Buffer buffer = paralelo.novoBuffer();
+            for (long i = (long) m * parte / 64; i < (long) m * (parte + 1) / 64; i++) {
+                buffer.adicionarAresta(rndParte.nextInt(n), rndParte.nextInt(n));
+            }
+        });
+        GrafoCSR b = paralelo.construir();
+        long fim = System.nanoTime();
+
+        System.out.printf("%d vértices, %d arestas: sequencial %.0f ms, paralelo %.0f ms (%d núcleos)\n",
+            n, b.quantidadeArestas(), (meio - inicio) / 1e6, (fim - meio) / 1e6, Runtime.getRuntime().availableProcessors());
+        if (a.quantidadeArestas() != b.quantidadeArestas()) throw new IllegalStateException("Quantidade de arestas diferente");
+    }
+}
@@ -0,0 +1,30 @@
+import java.util.Random;
+
+// Grafos sintéticos usados pelos testes de desempenho das BFS (sempre os mesmos para a mesma entrada)
+final class GeradorDeGrafos {
+
+    private GeradorDeGrafos() {
+    }
+
+    // Grafo R-MAT não direcionado com 2^escala vértices e cerca de 'fator' arestas por vértice (graus em
+    // lei de potência e diâmetro pequeno, como os grafos do Graph500), sem laços nem arestas repetidas.
+    // Cada aresta escolhe um quadrante da matriz de adjacência por bit
+    static GrafoCSR rmat(int escala, int fator) {
+        int n = 1 << escala;
+        var construtor = new ConstrutorParalelo(n).removerLacos().removerRepetidas();
+        var rnd = new Random(42);
+        for (long i = 0; i < (long) n * fator; i++) {
+            int u = 0, v = 0;
+            for (int bit = 0; bit < escala; bit++) { // Quadrantes com probabilidades 0,57 / 0,19 / 0,19 / 0,05
+                double r = rnd.nextDouble();
+                if (r >= 0.57) {
+                    if (r < 0.76) v |= 1 << bit;
+                    else if (r < 0.95) u |= 1 << bit;
+                    else { u |= 1 << bit; v |= 1 << bit; }
+                }
+            }
+            construtor.adicionarArestaNaoDirecionada(u, v);
+        }
+        return construtor.construir();
+    }
+}
@@ -0,0 +1,33 @@
+// Grafo em vetores (formato CSR), independente de onde os vetores estão guardados:
+// na memória do Java (GrafoCSR), em memória nativa fora do heap (GrafoForaDoHeap) ou em um arquivo
+// mapeado na memória (GrafoMapeado).
+// As arestas de u são as posições inicio(u) .. fim(u)-1; os algoritmos percorrem só esta interface,
+// então rodam sobre qualquer uma das representações sem copiar o grafo.
+public interface GrafoCompacto {
+
+    // Quantidade de vértices do grafo
+    int quantidadeVertices();
+
+    // Quantidade de arestas (uma aresta não direcionada conta duas vezes: ida e volta)
+    int quantidadeArestas();
+
+    // Posição da primeira aresta que sai de u
+    int inicio(int u);
+
+    // Posição logo depois da última aresta que sai de u
+    int fim(int u);
+
+    // Vértice de chegada da aresta e
+    int destino(int e);
+
+    // Peso da aresta e (1 se o grafo não tem pesos)
+    int peso(int e);
+
+    // Indica se as arestas têm peso próprio
+    boolean temPesos();
+
+    // Quantidade de arestas que saem de u
+    default int grau(int u) {
+        return fim(u) - inicio(u);
+    }
+}
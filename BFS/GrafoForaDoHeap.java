@@ -0,0 +1,158 @@
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// GrafoCompacto com os vetores do CSR (inicio, destinos e pesos) fora do heap do Java, em memória
+// nativa reservada com ByteBuffer.allocateDirect. O coletor de lixo vê só alguns objetos pequenos
+// (os buffers), não bilhões de ints: as pausas do GC deixam de crescer com o tamanho do grafo e o grafo
+// não conta no -Xmx. O limite é o da memória direta: -XX:MaxDirectMemorySize (por padrão igual ao -Xmx),
+// então para um grafo maior que o heap rode, por exemplo, com -Xmx2g -XX:MaxDirectMemorySize=64g.
+// A memória nativa é devolvida quando o grafo deixa de ser usado e o coletor recolhe os buffers.
+// Para um grafo guardado em arquivo, GrafoMapeado faz o mesmo sem copiar nada (as páginas vêm do disco);
+// GrafoForaDoHeap.copiar(ArquivoDeGrafo.abrir(arquivo)) traz o grafo inteiro para a memória de uma vez.
+// Como um buffer tem no máximo 2 GB, cada vetor é dividido em pedaços de 1 GB.
+// Depois de preenchido é só leitura e pode ser usado por várias threads ao mesmo tempo.
+public final class GrafoForaDoHeap implements GrafoCompacto {
+    private static final int BITS_PEDACO = 28;                  // 2^28 ints = 1 GB por pedaço
+    private static final int MASCARA_PEDACO = (1 << BITS_PEDACO) - 1;
+
+    private final int vertices;
+    private final int arestas;
+    private final IntBuffer[] inicio;   // Pedaços do vetor de posições (n + 1 ints)
+    private final IntBuffer[] destinos; // Pedaços do vetor de destinos (m ints)
+    private final IntBuffer[] pesos;    // Pedaços do vetor de pesos (null se o grafo não tem pesos)
+
+    // Reserva os vetores; o conteúdo é preenchido com definirInicio e definirAresta
+    GrafoForaDoHeap(int vertices, int arestas, boolean temPesos) {
+        this.vertices = vertices;
+        this.arestas = arestas;
+        this.inicio = reservar(vertices + 1L);
+        this.destinos = reservar(arestas);
+        this.pesos = temPesos ? reservar(arestas) : null;
+    }
+
+    // Copia qualquer GrafoCompacto (GrafoCSR, GrafoMapeado...) para fora do heap, em paralelo
+    public static GrafoForaDoHeap copiar(GrafoCompacto g) {
+        int n = g.quantidadeVertices();
+        var copia = new GrafoForaDoHeap(n, g.quantidadeArestas(), g.temPesos());
+        IntStream.rangeClosed(0, n).parallel().forEach(u -> copia.definirInicio(u, u < n ? g.inicio(u) : g.quantidadeArestas()));
+        IntStream.range(0, g.quantidadeArestas()).parallel().forEach(e -> copia.definirAresta(e, g.destino(e), g.peso(e)));
+        return copia;
+    }
+
+    // Reserva 'quantidade' ints em pedaços de até 2^BITS_PEDACO ints
+    private static IntBuffer[] reservar(long quantidade) {
+        int pedacos = (int) ((quantidade + MASCARA_PEDACO) >>> BITS_PEDACO);
+        IntBuffer[] resultado = new IntBuffer[Math.max(1, pedacos)];
+        for (int i = 0; i < resultado.length; i++) {
+            long tamanho = Math.min(quantidade - ((long) i << BITS_PEDACO), 1L << BITS_PEDACO);
+            resultado[i] = ByteBuffer.allocateDirect((int) (4 * tamanho))
+                .order(ByteOrder.nativeOrder()) // Ordem nativa: get/put viram leituras diretas da memória
+                .asIntBuffer();
+        }
+        return resultado;
+    }
+
+    private static int ler(IntBuffer[] pedacos, int i) {
+        return pedacos[i >>> BITS_PEDACO].get(i & MASCARA_PEDACO);
+    }
+
+    private static void escrever(IntBuffer[] pedacos, int i, int valor) {
+        pedacos[i >>> BITS_PEDACO].put(i & MASCARA_PEDACO, valor);
+    }
+
+    // Posição da primeira aresta de u (u = quantidadeVertices() marca o fim da última lista)
+    void definirInicio(int u, int posicao) {
+        escrever(inicio, u, posicao);
+    }
+
+    // Destino e peso da aresta e (o peso é ignorado se o grafo não tem pesos)
+    void definirAresta(int e, int destino, int peso) {
+        escrever(destinos, e, destino);
+        if (pesos != null) escrever(pesos, e, peso);
+    }
+
+    @Override
+    public int quantidadeVertices() {
+        return vertices;
+    }
+
+    @Override
+    public int quantidadeArestas() {
+        return arestas;
+    }
+
+    @Override
+    public int inicio(int u) {
+        return ler(inicio, u);
+    }
+
+    @Override
+    public int fim(int u) {
+        return ler(inicio, u + 1);
+    }
+
+    @Override
+    public int destino(int e) {
+        return ler(destinos, e);
+    }
+
+    @Override
+    public int peso(int e) {
+        return pesos == null ? 1 : ler(pesos, e);
+    }
+
+    @Override
+    public boolean temPesos() {
+        return pesos != null;
+    }
+
+    // Memória nativa ocupada pelos vetores, em bytes
+    public long memoriaEmBytes() {
+        return 4L * (vertices + 1) + 4L * arestas * (pesos == null ? 1 : 2);
+    }
+
+    // Compara um GrafoCSR no heap com a cópia fora do heap: heap ocupado depois de uma coleta
+    // completa (o que o GC precisa gerenciar e o que conta no -Xmx) e tempo de percorrer todas as arestas
+    // Uso: java -XX:MaxDirectMemorySize=4g GrafoForaDoHeap [vertices] [arestas]
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 5_000_000;
+        int m = args.length > 1 ? Integer.parseInt(args[1]) : 50_000_000;
+
+        GrafoForaDoHeap foraDoHeap = medirNoHeapECopiar(n, m);
+        medir("fora do heap", foraDoHeap); // O GrafoCSR já saiu de escopo: só a cópia continua viva
+    }
+
+    private static GrafoForaDoHeap medirNoHeapECopiar(int n, int m) {
+        var construtor = new ConstrutorParalelo(n);
+        IntStream.range(0, 64).parallel().forEach(parte -> {
+            var rnd = new Random(parte);
+            ConstrutorParalelo.Buffer buffer = construtor.novoBuffer();
+            for (int i = parte; i < m; i += 64) buffer.adicionarAresta(rnd.nextInt(n), rnd.nextInt(n), 1 + rnd.nextInt(100));
+        });
+        GrafoCSR csr = construtor.construir();
+        medir("heap (GrafoCSR)", csr);
+        return copiar(csr);
+    }
+
+    private static void medir(String nome, GrafoCompacto g) {
+        var memoria = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        long heap = memoria.getHeapMemoryUsage().getUsed();
+
+        long melhor = Long.MAX_VALUE, soma = 0;
+        for (int rodada = 0; rodada < 3; rodada++) {
+            long inicio = System.nanoTime();
+            soma = 0;
+            for (int u = 0; u < g.quantidadeVertices(); u++) {
+                for (int e = g.inicio(u), fim = g.fim(u); e < fim; e++) soma += g.destino(e) + g.peso(e);
+            }
+            melhor = Math.min(melhor, System.nanoTime() - inicio);
+        }
+        System.out.printf("%-16s heap usado %7.1f MB | varredura das arestas %6.1f ms (%d)\n",
+            nome, heap / 1e6, melhor / 1e6, soma % 1000);
+    }
+}
@@ -0,0 +1,206 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+// Leitura de grafos grandes a partir de arquivos de texto com uma aresta por linha.
+// Formatos aceitos (podem até se misturar no mesmo arquivo):
+//   DIMACS (.gr):  "c comentário", "p sp <vertices> <arestas>", "a <origem> <destino> <peso>" (vértices a partir de 1)
+//   SNAP:          "# comentário", "<origem> <destino>" ou "<origem> <destino> <peso>" (vértices a partir de 0)
+// O arquivo é mapeado na memória e dividido em pedaços que terminam em fim de linha; cada pedaço é
+// lido por uma thread com um leitor de inteiros feito à mão (byte a byte, sem criar String nem
+// chamar Integer.parseInt), e as arestas vão direto para o buffer do pedaço no ConstrutorParalelo,
+// que monta o GrafoCSR também em paralelo.
+public final class LeitorDeArestas {
+    private static final long TAMANHO_MAXIMO_PEDACO = 1L << 30; // Um mapeamento do Java tem no máximo 2 GB
+
+    private LeitorDeArestas() {
+    }
+
+    // Lê o arquivo e monta o grafo. Se 'naoDirecionado' for verdadeiro, cada aresta vira ida e volta
+    public static GrafoCSR ler(Path arquivo, boolean naoDirecionado) throws IOException {
+        return ler(arquivo, naoDirecionado, false);
+    }
+
+    // Como ler(arquivo, naoDirecionado), mas se 'simplificar' for verdadeiro descarta laços (u -> u)
+    // e arestas repetidas (comum em arquivos SNAP de grafos não direcionados, que listam ida e volta)
+    public static GrafoCSR ler(Path arquivo, boolean naoDirecionado, boolean simplificar) throws IOException {
+        var construtor = new ConstrutorParalelo();
+        if (simplificar) construtor.removerLacos().removerRepetidas();
+
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            long[] limites = dividir(canal, Runtime.getRuntime().availableProcessors() * 4);
+
+            // Cada pedaço é lido em paralelo e escreve no buffer da thread que o leu
+            try {
+                IntStream.range(0, limites.length - 1).parallel()
+                    .forEach(i -> lerPedaco(canal, limites[i], limites[i + 1], naoDirecionado, construtor));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+        return construtor.construir();
+    }
+
+    // Divide o arquivo em pedaços de tamanho parecido, cada um terminando logo depois de um '\n'
+    private static long[] dividir(FileChannel canal, int pedacosDesejados) throws IOException {
+        long tamanho = canal.size();
+        int pedacos = (int) Math.max(1, Math.min(pedacosDesejados, tamanho / (1 << 20))); // Pelo menos 1 MB cada
+        pedacos = (int) Math.max(pedacos, (tamanho + TAMANHO_MAXIMO_PEDACO - 1) / TAMANHO_MAXIMO_PEDACO);
+
+        long[] limites = new long[pedacos + 1];
+        limites[pedacos] = tamanho;
+        ByteBuffer byteLido = ByteBuffer.allocate(1);
+        for (int i = 1; i < pedacos; i++) {
+            long posicao = Math.max(limites[i - 1], tamanho * i / pedacos);
+            // Avança até depois do próximo fim de linha
+            while (posicao < tamanho) {
+                byteLido.clear();
+                canal.read(byteLido, posicao++);
+                if (byteLido.get(0) == '\n') break;
+            }
+            limites[i] = posicao;
+        }
+        return limites;
+    }
+
+    // Lê as arestas das linhas entre 'inicio' e 'fim' do arquivo
+    private static void lerPedaco(FileChannel canal, long inicio, long fim, boolean naoDirecionado, ConstrutorParalelo construtor) {
+        if (fim <= inicio) return;
+        MappedByteBuffer buffer;
+        try {
+            buffer = canal.map(FileChannel.MapMode.READ_ONLY, inicio, fim - inicio);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ConstrutorParalelo.Buffer arestas = construtor.novoBuffer();
+        var leitor = new Leitor(buffer);
+        while (leitor.temMais()) {
+            byte c = leitor.primeiroDaLinha();
+            if (c == 'a') { // DIMACS: a origem destino peso (vértices a partir de 1)
+                leitor.pular();
+                int origem = leitor.inteiro() - 1;
+                int destino = leitor.inteiro() - 1;
+                int peso = leitor.inteiro();
+                adicionar(arestas, origem, destino, peso, naoDirecionado);
+            } else if (c == 'p') { // DIMACS: p sp vertices arestas
+                leitor.pular();
+                leitor.pularPalavra();
+                construtor.garantirVertices(leitor.inteiro());
+            } else if (c == '-' || (c >= '0' && c <= '9')) { // SNAP: origem destino [peso]
+                int origem = leitor.inteiro();
+                int destino = leitor.inteiro();
+                int peso = leitor.temNumeroNaLinha() ? leitor.inteiro() : 1;
+                adicionar(arestas, origem, destino, peso, naoDirecionado);
+            }
+            // Comentários ('c', '#', '%'), linhas vazias e o resto de cada linha são ignorados
+            leitor.proximaLinha();
+        }
+    }
+
+    private static void adicionar(ConstrutorParalelo.Buffer arestas, int origem, int destino, int peso, boolean naoDirecionado) {
+        if (naoDirecionado) arestas.adicionarArestaNaoDirecionada(origem, destino, peso);
+        else arestas.adicionarAresta(origem, destino, peso);
+    }
+
+    // Percorre os bytes de um pedaço do arquivo, sem criar objetos por linha ou por número
+    private static final class Leitor {
+        private final ByteBuffer buffer;
+        private int posicao = 0;
+
+        Leitor(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        boolean temMais() {
+            return posicao < buffer.limit();
+        }
+
+        // Primeiro caractere não branco da linha (ou '\n' se a linha está vazia)
+        byte primeiroDaLinha() {
+            pularEspacos();
+            return posicao < buffer.limit() ? buffer.get(posicao) : (byte) '\n';
+        }
+
+        // Pula o caractere atual
+        void pular() {
+            posicao++;
+        }
+
+        // Pula uma palavra (ex.: "sp" em "p sp n m")
+        void pularPalavra() {
+            pularEspacos();
+            while (posicao < buffer.limit() && buffer.get(posicao) > ' ') posicao++;
+        }
+
+        // Verifica se ainda há um número antes do fim da linha
+        boolean temNumeroNaLinha() {
+            pularEspacos();
+            if (posicao >= buffer.limit()) return false;
+            byte c = buffer.get(posicao);
+            return c == '-' || (c >= '0' && c <= '9');
+        }
+
+        // Lê o próximo inteiro da linha
+        int inteiro() {
+            pularEspacos();
+            boolean negativo = false;
+            if (posicao < buffer.limit() && buffer.get(posicao) == '-') {
+                negativo = true;
+                posicao++;
+            }
+            int valor = 0;
+            boolean leuDigito = false;
+            while (posicao < buffer.limit()) {
+                int d = buffer.get(posicao) - '0';
+                if (d < 0 || d > 9) break;
+                if (valor > (Integer.MAX_VALUE - d) / 10) throw new IllegalArgumentException("Número grande demais na posição " + posicao + " do pedaço");
+                valor = valor * 10 + d;
+                leuDigito = true;
+                posicao++;
+            }
+            if (!leuDigito) throw new IllegalArgumentException("Número esperado na posição " + posicao + " do pedaço");
+            return negativo ? -valor : valor;
+        }
+
+        // Vai para o começo da próxima linha
+        void proximaLinha() {
+            while (posicao < buffer.limit() && buffer.get(posicao++) != '\n') {
+                // Pula o resto da linha
+            }
+        }
+
+        // Pula espaços e tabulações (sem passar do fim da linha)
+        private void pularEspacos() {
+            while (posicao < buffer.limit()) {
+                byte c = buffer.get(posicao);
+                if (c != ' ' && c != '\t' && c != '\r') break;
+                posicao++;
+            }
+        }
+    }
+
+    // Converte um arquivo de texto (DIMACS ou SNAP) para o formato binário de ArquivoDeGrafo
+    // Uso: java LeitorDeArestas entrada.txt saida.bin [--direcionado]
+    public static void main(String[] args) throws IOException {
+        Path entrada = Path.of(args[0]);
+        Path saida = Path.of(args[1]);
+        boolean naoDirecionado = !(args.length > 2 && args[2].equals("--direcionado"));
+
+        long inicio = System.nanoTime();
+        GrafoCSR g = ler(entrada, naoDirecionado);
+        long meio = System.nanoTime();
+        ArquivoDeGrafo.salvar(g, saida);
+        long fim = System.nanoTime();
+
+        double segundos = (meio - inicio) / 1e9;
+        System.out.printf("%d vértices, %d arestas lidas em %.2f s (%.0f MB/s); gravado em %.2f s\n",
+            g.quantidadeVertices(), g.quantidadeArestas(), segundos,
+            entrada.toFile().length() / 1e6 / segundos, (fim - meio) / 1e9);
+    }
+}
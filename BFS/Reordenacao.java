@@ -0,0 +1,255 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+// Renumeração dos vértices de um grafo para melhorar a localidade de memória.
+// Com números de vértices arbitrários, os vizinhos de u e as posições distancia[v] que os algoritmos
+// atualizam ficam espalhados pela memória, e quase todo acesso é uma falta de cache.
+// Renumerando os vértices de forma que vizinhos tenham números próximos, as listas de adjacência e
+// os vetores por vértice passam a ser lidos em regiões próximas. Ordens disponíveis:
+//   - cuthillMcKeeReverso: BFS a partir de um vértice de grau mínimo, visitando os vizinhos do menor
+//     para o maior grau, e depois invertida (RCM). Reduz a "largura de banda": |novo(u) - novo(v)|;
+//   - porBFS: a ordem em que uma BFS encontra os vértices (mais simples, quase o mesmo efeito);
+//   - porGrau: vértices de maior grau primeiro (os mais acessados ficam juntos no começo).
+// O resultado guarda o grafo renumerado e o mapa nos dois sentidos, para traduzir origens, destinos,
+// caminhos e vetores de resultado de volta para os números (e nomes) originais.
+// Considera as arestas que saem de cada vértice; em grafos não direcionados isso já inclui as duas direções.
+public final class Reordenacao {
+    private final int[] novoParaAntigo; // novoParaAntigo[novo] = número original do vértice
+    private final int[] antigoParaNovo; // antigoParaNovo[antigo] = número do vértice no grafo renumerado
+    private final GrafoCSR grafo;       // Grafo com os vértices renumerados
+
+    private Reordenacao(GrafoCompacto original, int[] novoParaAntigo) {
+        int n = novoParaAntigo.length;
+        this.novoParaAntigo = novoParaAntigo;
+        this.antigoParaNovo = new int[n];
+        for (int novo = 0; novo < n; novo++) antigoParaNovo[novoParaAntigo[novo]] = novo;
+        this.grafo = permutar(original);
+    }
+
+    // Reverse Cuthill-McKee
+    public static Reordenacao cuthillMcKeeReverso(GrafoCompacto g) {
+        int[] ordem = ordemBFS(g, true);
+        for (int i = 0, j = ordem.length - 1; i < j; i++, j--) {
+            int t = ordem[i];
+            ordem[i] = ordem[j];
+            ordem[j] = t;
+        }
+        return new Reordenacao(g, ordem);
+    }
+
+    // Ordem de descoberta de uma BFS (cada componente começa pelo vértice de menor número ainda não visitado)
+    public static Reordenacao porBFS(GrafoCompacto g) {
+        return new Reordenacao(g, ordemBFS(g, false));
+    }
+
+    // Vértices em ordem decrescente de grau (empates pelo número original)
+    public static Reordenacao porGrau(GrafoCompacto g) {
+        int n = g.quantidadeVertices();
+        long[] chaves = new long[n];
+        IntStream.range(0, n).parallel().forEach(v -> chaves[v] = ((long) (Integer.MAX_VALUE - g.grau(v)) << 32) | v);
+        Arrays.parallelSort(chaves);
+        int[] ordem = new int[n];
+        for (int i = 0; i < n; i++) ordem[i] = (int) chaves[i];
+        return new Reordenacao(g, ordem);
+    }
+
+    // Ordem de visita de uma BFS em cada componente. Com 'porGrauCrescente' (Cuthill-McKee), cada
+    // componente começa em um vértice de grau mínimo e os vizinhos entram na fila do menor para o maior grau
+    private static int[] ordemBFS(GrafoCompacto g, boolean porGrauCrescente) {
+        int n = g.quantidadeVertices();
+        int[] inicios = IntStream.range(0, n).toArray();
+        if (porGrauCrescente) {
+            long[] chaves = new long[n];
+            for (int v = 0; v < n; v++) chaves[v] = ((long) g.grau(v) << 32) | v;
+            Arrays.parallelSort(chaves);
+            for (int i = 0; i < n; i++) inicios[i] = (int) chaves[i];
+        }
+
+        boolean[] visitado = new boolean[n];
+        int[] ordem = new int[n]; // Também serve de fila: a BFS só acrescenta no fim
+        int fundo = 0;
+        long[] vizinhos = new long[16]; // Vizinhos novos do vértice atual, para ordenar por grau
+
+        for (int s : inicios) {
+            if (visitado[s]) continue;
+            visitado[s] = true;
+            int frente = fundo;
+            ordem[fundo++] = s;
+
+            while (frente < fundo) {
+                int u = ordem[frente++];
+                int novos = 0;
+                for (int e = g.inicio(u), fim = g.fim(u); e < fim; e++) {
+                    int v = g.destino(e);
+                    if (visitado[v]) continue;
+                    visitado[v] = true;
+                    if (!porGrauCrescente) {
+                        ordem[fundo++] = v;
+                        continue;
+                    }
+                    if (novos == vizinhos.length) vizinhos = Arrays.copyOf(vizinhos, novos * 2);
+                    vizinhos[novos++] = ((long) g.grau(v) << 32) | v;
+                }
+                if (porGrauCrescente) {
+                    Arrays.sort(vizinhos, 0, novos);
+                    for (int i = 0; i < novos; i++) ordem[fundo++] = (int) vizinhos[i];
+                }
+            }
+        }
+        return ordem;
+    }
+
+    // Monta o grafo renumerado: o vértice novo u tem as arestas do antigo novoParaAntigo[u],
+    // com os destinos traduzidos e ordenados (vizinhos em ordem crescente de número)
+    private GrafoCSR permutar(GrafoCompacto g) {
+        int n = novoParaAntigo.length;
+        int[] inicio = new int[n + 1];
+        for (int u = 0; u < n; u++) inicio[u + 1] = inicio[u] + g.grau(novoParaAntigo[u]);
+
+        int m = inicio[n];
+        int[] destinos = new int[m];
+        int[] pesos = g.temPesos() ? new int[m] : null;
+        IntStream.range(0, n).parallel().forEach(u -> {
+            int antigo = novoParaAntigo[u];
+            int de = inicio[u], ate = inicio[u + 1];
+            if (pesos == null) {
+                for (int k = 0, e = g.inicio(antigo); k < ate - de; k++, e++) destinos[de + k] = antigoParaNovo[g.destino(e)];
+                Arrays.sort(destinos, de, ate);
+                return;
+            }
+            // Ordena os pares (destino, peso) juntos; o bit de sinal do peso é invertido para manter a ordem
+            long[] pares = new long[ate - de];
+            for (int k = 0, e = g.inicio(antigo); k < pares.length; k++, e++) {
+                pares[k] = ((long) antigoParaNovo[g.destino(e)] << 32) | ((g.peso(e) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+            }
+            Arrays.sort(pares);
+            for (int k = 0; k < pares.length; k++) {
+                destinos[de + k] = (int) (pares[k] >>> 32);
+                pesos[de + k] = (int) pares[k] ^ Integer.MIN_VALUE;
+            }
+        });
+        return new GrafoCSR(inicio, destinos, pesos);
+    }
+
+    // Grafo com os vértices renumerados (use novo(...) para traduzir origens e destinos)
+    public GrafoCSR grafo() {
+        return grafo;
+    }
+
+    // Número do vértice original no grafo renumerado
+    public int novo(int antigo) {
+        return antigoParaNovo[antigo];
+    }
+
+    // Número original de um vértice do grafo renumerado
+    public int antigo(int novo) {
+        return novoParaAntigo[novo];
+    }
+
+    // Traduz um caminho do grafo renumerado para os números originais
+    public int[] paraAntigos(int[] caminho) {
+        int[] resultado = new int[caminho.length];
+        for (int i = 0; i < caminho.length; i++) resultado[i] = novoParaAntigo[caminho[i]];
+        return resultado;
+    }
+
+    // Reorganiza um vetor de resultados indexado pelo número novo (ex.: distâncias) para o número original
+    public int[] porNumeroOriginal(int[] valoresPorNovo) {
+        int[] resultado = new int[valoresPorNovo.length];
+        for (int novo = 0; novo < valoresPorNovo.length; novo++) resultado[novoParaAntigo[novo]] = valoresPorNovo[novo];
+        return resultado;
+    }
+
+    // Soma das distâncias |novo(u) - novo(v)| das arestas, dividida pela quantidade de arestas.
+    // Quanto menor, mais próximos na memória ficam os vizinhos
+    public static double distanciaMediaDosVizinhos(GrafoCompacto g) {
+        long soma = 0;
+        for (int u = 0; u < g.quantidadeVertices(); u++) {
+            for (int e = g.inicio(u), fim = g.fim(u); e < fim; e++) soma += Math.abs(g.destino(e) - u);
+        }
+        return g.quantidadeArestas() == 0 ? 0 : (double) soma / g.quantidadeArestas();
+    }
+
+    // Compara o tempo de percorrer o mesmo grafo (grade com números embaralhados) antes e depois
+    // de cada renumeração. Java não dá acesso aos contadores de falta de cache do processador;
+    // para vê-los, rode com: perf stat -e cache-misses,cache-references java Reordenacao
+    // Uso: java Reordenacao [lado da grade]
+    public static void main(String[] args) {
+        int lado = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int n = lado * lado;
+
+        // Grade lado x lado (como um mapa de ruas) com os números dos vértices embaralhados
+        int[] embaralhado = IntStream.range(0, n).toArray();
+        var rnd = new Random(42);
+        for (int i = n - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            int t = embaralhado[i];
+            embaralhado[i] = embaralhado[j];
+            embaralhado[j] = t;
+        }
+        var construtor = new GrafoCSR.Construtor(n, 4 * n);
+        for (int l = 0; l < lado; l++) {
+            for (int c = 0; c < lado; c++) {
+                int v = embaralhado[l * lado + c];
+                if (c + 1 < lado) construtor.adicionarArestaNaoDirecionada(v, embaralhado[l * lado + c + 1], 1 + rnd.nextInt(10));
+                if (l + 1 < lado) construtor.adicionarArestaNaoDirecionada(v, embaralhado[(l + 1) * lado + c], 1 + rnd.nextInt(10));
+            }
+        }
+        GrafoCSR original = construtor.construir();
+
+        medir("original", original, 0);
+        for (String nome : new String[] {"RCM", "BFS", "grau"}) {
+            long inicio = System.nanoTime();
+            Reordenacao r = nome.equals("RCM") ? cuthillMcKeeReverso(original)
+                : nome.equals("BFS") ? porBFS(original) : porGrau(original);
+            long fim = System.nanoTime();
+            System.out.printf("  (renumeração %s em %.0f ms)\n", nome, (fim - inicio) / 1e6);
+            medir(nome, r.grafo(), r.novo(0));
+
+            // A renumeração não pode mudar as distâncias
+            if (Grafo.menorCaminho(r, 0, n - 1) != Grafo.menorCaminho(original, 0, n - 1)) {
+                throw new IllegalStateException("Distância diferente depois da renumeração " + nome);
+            }
+        }
+    }
+
+    // Mede uma BFS completa e uma varredura que lê um valor por vizinho (o padrão de acesso
+    // do relaxamento de arestas no Dijkstra e no Bellman-Ford)
+    private static void medir(String nome, GrafoCompacto g, int origem) {
+        int n = g.quantidadeVertices();
+        int[] valor = new int[n];
+        int[] fila = new int[n];
+        long melhorBFS = Long.MAX_VALUE, melhorVarredura = Long.MAX_VALUE, verificacao = 0;
+
+        for (int rodada = 0; rodada < 5; rodada++) {
+            long inicio = System.nanoTime();
+            Arrays.fill(valor, -1);
+            int frente = 0, fundo = 0;
+            fila[fundo++] = origem;
+            valor[origem] = 0;
+            while (frente < fundo) {
+                int u = fila[frente++];
+                for (int e = g.inicio(u), fim = g.fim(u); e < fim; e++) {
+                    int v = g.destino(e);
+                    if (valor[v] == -1) {
+                        valor[v] = valor[u] + 1;
+                        fila[fundo++] = v;
+                    }
+                }
+            }
+            long meio = System.nanoTime();
+
+            long soma = 0;
+            for (int u = 0; u < n; u++) {
+                for (int e = g.inicio(u), fim = g.fim(u); e < fim; e++) soma += valor[g.destino(e)] + g.peso(e);
+            }
+            long fim = System.nanoTime();
+            verificacao += soma;
+            melhorBFS = Math.min(melhorBFS, meio - inicio);
+            melhorVarredura = Math.min(melhorVarredura, fim - meio);
+        }
+        System.out.printf("%-8s distância média dos vizinhos %10.1f | BFS %7.1f ms | varredura %7.1f ms (%d)\n",
+            nome, distanciaMediaDosVizinhos(g), melhorBFS / 1e6, melhorVarredura / 1e6, verificacao % 1000);
+    }
+}
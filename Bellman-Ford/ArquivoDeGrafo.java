@@ -0,0 +1,124 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+// Formato binário de grafo em disco, pensado para ser mapeado na memória (GrafoMapeado):
+//   cabeçalho (32 bytes): assinatura "GCSR", versão, opções (bit 0 = tem pesos), reservado,
+//                         quantidade de vértices (long), quantidade de arestas (long)
+//   inicio:   (n + 1) ints — posição da primeira aresta de cada vértice (como no GrafoCSR)
+//   destinos: m ints
+//   pesos:    m ints (só se o bit de pesos estiver ligado)
+// Todos os números são little-endian (a ordem nativa dos processadores x86 e ARM comuns),
+// então os vetores são lidos do arquivo exatamente como estão, sem conversão.
+public final class ArquivoDeGrafo {
+    private static final int ASSINATURA = 0x52534347; // "GCSR" em little-endian
+    private static final int VERSAO = 1;
+    private static final int TEM_PESOS = 1;
+    private static final int TAMANHO_CABECALHO = 32;
+
+    private ArquivoDeGrafo() {
+    }
+
+    // Grava o grafo no arquivo (substituindo o que existir)
+    public static void salvar(GrafoCompacto g, Path arquivo) throws IOException {
+        int n = g.quantidadeVertices();
+        int m = g.quantidadeArestas();
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(ASSINATURA).putInt(VERSAO).putInt(g.temPesos() ? TEM_PESOS : 0).putInt(0);
+            buffer.putLong(n).putLong(m);
+
+            for (int u = 0; u <= n; u++) {
+                gravarSeCheio(canal, buffer);
+                buffer.putInt(u < n ? g.inicio(u) : m);
+            }
+            for (int e = 0; e < m; e++) {
+                gravarSeCheio(canal, buffer);
+                buffer.putInt(g.destino(e));
+            }
+            if (g.temPesos()) {
+                for (int e = 0; e < m; e++) {
+                    gravarSeCheio(canal, buffer);
+                    buffer.putInt(g.peso(e));
+                }
+            }
+            gravar(canal, buffer);
+        }
+    }
+
+    // Abre o arquivo e mapeia os vetores na memória (não lê as arestas agora)
+    public static GrafoMapeado abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+            while (cabecalho.hasRemaining() && canal.read(cabecalho) >= 0) {
+                // Lê até completar o cabeçalho ou o arquivo acabar
+            }
+            if (cabecalho.hasRemaining()) throw new IOException("Arquivo de grafo truncado: " + arquivo);
+            cabecalho.flip();
+
+            if (cabecalho.getInt() != ASSINATURA) throw new IOException("Não é um arquivo de grafo: " + arquivo);
+            int versao = cabecalho.getInt();
+            if (versao != VERSAO) throw new IOException("Versão de arquivo de grafo não suportada: " + versao);
+            boolean temPesos = (cabecalho.getInt() & TEM_PESOS) != 0;
+            cabecalho.getInt(); // Reservado
+            long n = cabecalho.getLong();
+            long m = cabecalho.getLong();
+            if (n < 0 || m < 0 || n >= Integer.MAX_VALUE || m > Integer.MAX_VALUE - 8) {
+                throw new IOException("Tamanho de grafo inválido: " + n + " vértices, " + m + " arestas");
+            }
+
+            long esperado = TAMANHO_CABECALHO + 4 * (n + 1) + 4 * m * (temPesos ? 2 : 1);
+            if (canal.size() != esperado) {
+                throw new IOException("Arquivo de grafo com " + canal.size() + " bytes, esperado " + esperado);
+            }
+            return new GrafoMapeado(canal, TAMANHO_CABECALHO, (int) n, (int) m, temPesos);
+        }
+    }
+
+    private static void gravarSeCheio(FileChannel canal, ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < Integer.BYTES) gravar(canal, buffer);
+    }
+
+    private static void gravar(FileChannel canal, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) canal.write(buffer);
+        buffer.clear();
+    }
+
+    // Grava um grafo aleatório, abre de novo mapeado e confere as arestas
+    // Uso: java ArquivoDeGrafo [arquivo] [vertices] [arestasPorVertice]
+    public static void main(String[] args) throws IOException {
+        Path arquivo = Path.of(args.length > 0 ? args[0] : "grafo.bin");
+        int n = args.length > 1 ? Integer.parseInt(args[1]) : 1_000_000;
+        int grau = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+
+        var rnd = new Random(42);
+        var construtor = new GrafoCSR.Construtor(n, n * grau);
+        for (int u = 0; u < n; u++) {
+            for (int i = 0; i < grau; i++) construtor.adicionarAresta(u, rnd.nextInt(n), 1 + rnd.nextInt(100));
+        }
+        GrafoCSR g = construtor.construir();
+
+        long inicio = System.nanoTime();
+        salvar(g, arquivo);
+        long meio = System.nanoTime();
+        GrafoMapeado mapeado = abrir(arquivo);
+        long fim = System.nanoTime();
+
+        for (int u = 0; u < n; u++) {
+            if (g.inicio(u) != mapeado.inicio(u) || g.fim(u) != mapeado.fim(u)) throw new IllegalStateException("Vértice " + u + " diferente");
+        }
+        for (int e = 0; e < g.quantidadeArestas(); e++) {
+            if (g.destino(e) != mapeado.destino(e) || g.peso(e) != mapeado.peso(e)) throw new IllegalStateException("Aresta " + e + " diferente");
+        }
+        System.out.printf("%s: %d bytes gravados em %.1f ms, aberto em %.3f ms, arestas conferidas\n",
+            arquivo, Files.size(arquivo), (meio - inicio) / 1e6, (fim - meio) / 1e6);
+    }
+}
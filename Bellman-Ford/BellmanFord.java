@@ -34,6 +34,41 @@ class Grafo {
         return adjacencias.get(u);
     }
 
+    // Copia as arestas para um GrafoCSR (vetores primitivos, imutável), mantendo a ordem dos vizinhos
+    public GrafoCSR paraCSR() {
+        int arestas = 0;
+        for (List<Aresta> lista : adjacencias) arestas += lista.size();
+
+        var construtor = new GrafoCSR.Construtor(vertices.length, arestas);
+        for (int u = 0; u < vertices.length; u++) {
+            for (Aresta aresta : adjacencias.get(u)) construtor.adicionarAresta(u, aresta.destino, aresta.peso);
+        }
+        return construtor.construir();
+    }
+
+    // Copia as listas de adjacência para um GrafoForaDoHeap (vetores em memória nativa, fora do heap),
+    // sem passar por um GrafoCSR: as listas já estão agrupadas por vértice de origem
+    public GrafoForaDoHeap paraForaDoHeap() {
+        int arestas = 0;
+        for (List<Aresta> lista : adjacencias) arestas += lista.size();
+
+        var g = new GrafoForaDoHeap(vertices.length, arestas, true);
+        int e = 0;
+        for (int u = 0; u < vertices.length; u++) {
+            g.definirInicio(u, e);
+            for (Aresta aresta : adjacencias.get(u)) g.definirAresta(e++, aresta.destino, aresta.peso);
+        }
+        g.definirInicio(vertices.length, e);
+        return g;
+    }
+
+    // Copia as arestas para um GrafoCSR com os vértices renumerados por Cuthill-McKee reverso (vizinhos
+    // com números próximos, então os acessos a distancia[v] ficam próximos na memória). A Reordenacao
+    // traduz a origem e os resultados entre os números novos e os originais (os dos nomes)
+    public Reordenacao paraCSRReordenado() {
+        return Reordenacao.cuthillMcKeeReverso(paraCSR());
+    }
+
     // Retorna o vetor de vértices do grafo
     public Vertice[] getVertices() {
         return vertices;
@@ -105,6 +140,95 @@ public class BellmanFord {
         return true; // o grafo não possui um ciclo negativo
     }
 
+    // Versão do BellmanFord que não escreve nos objetos Vertice do grafo:
+    // distâncias e predecessores ficam no EspacoDeBusca 'ws', e o grafo é apenas lido.
+    // Assim, várias threads podem executar consultas no mesmo grafo, cada uma com seu espaço.
+    public boolean executar(Grafo g, int s, EspacoDeBusca ws) {
+        // Passo 1: todas as distâncias passam a valer infinito (em O(1)), menos a origem
+        ws.reiniciar();
+        ws.atualizar(s, 0, -1);
+
+        // Passo 2: relaxa todas as arestas V-1 vezes
+        for (int i = 0; i < g.quantidadeVertices() - 1; i++) {
+            boolean mudou = false;
+            for (int u = 0; u < g.quantidadeVertices(); u++) {
+                int du = ws.distancia(u);
+                if (du == EspacoDeBusca.INFINITO) continue; // 'u' ainda não foi alcançado
+
+                for (Grafo.Aresta a : g.vizinhos(u)) {
+                    if (du + a.peso < ws.distancia(a.destino)) {
+                        ws.atualizar(a.destino, du + a.peso, u);
+                        mudou = true;
+                    }
+                }
+            }
+            if (!mudou) break; // nenhuma distância mudou: as próximas repetições também não mudariam nada
+        }
+
+        // Passo 3: verifica se existe ciclo negativo alcançável a partir da origem
+        for (int u = 0; u < g.quantidadeVertices(); u++) {
+            int du = ws.distancia(u);
+            if (du == EspacoDeBusca.INFINITO) continue;
+
+            for (Grafo.Aresta a : g.vizinhos(u)) {
+                if (du + a.peso < ws.distancia(a.destino))
+                    return false; // um ciclo negativo foi encontrado
+            }
+        }
+        return true; // o grafo não possui um ciclo negativo
+    }
+
+    // Mesmo algoritmo sobre um GrafoCompacto (GrafoCSR, GrafoMapeado ou GrafoForaDoHeap): as arestas de u são as posições g.inicio(u) .. g.fim(u)-1
+    public boolean executar(GrafoCompacto g, int s, EspacoDeBusca ws) {
+        ws.reiniciar();
+        ws.atualizar(s, 0, -1);
+
+        // Relaxa todas as arestas até V-1 vezes (para antes se nada mudar)
+        for (int i = 0; i < g.quantidadeVertices() - 1; i++) {
+            boolean mudou = false;
+            for (int u = 0; u < g.quantidadeVertices(); u++) {
+                int du = ws.distancia(u);
+                if (du == EspacoDeBusca.INFINITO) continue;
+
+                for (int e = g.inicio(u), fim = g.fim(u); e < fim; e++) {
+                    int v = g.destino(e);
+                    if (du + g.peso(e) < ws.distancia(v)) {
+                        ws.atualizar(v, du + g.peso(e), u);
+                        mudou = true;
+                    }
+                }
+            }
+            if (!mudou) break;
+        }
+
+        // Verifica se existe ciclo negativo alcançável a partir da origem
+        for (int u = 0; u < g.quantidadeVertices(); u++) {
+            int du = ws.distancia(u);
+            if (du == EspacoDeBusca.INFINITO) continue;
+
+            for (int e = g.inicio(u), fim = g.fim(u); e < fim; e++) {
+                if (du + g.peso(e) < ws.distancia(g.destino(e))) return false;
+            }
+        }
+        return true;
+    }
+
+    // Mesmo algoritmo sobre o grafo renumerado de uma Reordenacao, com a origem e o resultado nos números
+    // originais: retorna a distância até cada vértice original (EspacoDeBusca.INFINITO se não alcançado),
+    // ou null se houver ciclo negativo. 'ws' fica com os números novos
+    public int[] distancias(Reordenacao r, int s, EspacoDeBusca ws) {
+        if (!executar(r.grafo(), r.novo(s), ws)) return null;
+        int[] porNovo = new int[r.grafo().quantidadeVertices()];
+        for (int v = 0; v < porNovo.length; v++) porNovo[v] = ws.distancia(v);
+        return r.porNumeroOriginal(porNovo);
+    }
+
+    // Caminho da origem até 'destino' (número original) da última execução de distancias(r, ...),
+    // com os números originais (vazio se o destino não foi alcançado)
+    public int[] caminhoAte(Reordenacao r, int destino, EspacoDeBusca ws) {
+        return r.paraAntigos(ws.caminhoAte(r.novo(destino)));
+    }
+
     // Aplica o relaxamento entre dois vértices: se o caminho via 'u' até 'v' for melhor, atualiza 'v'
     private void relaxar(Grafo.Vertice u, Grafo.Vertice v, int w) {
         // Verifica se a distância de 'v' pode ser melhorada passando por 'u'
@@ -158,6 +282,19 @@ public class BellmanFord {
                         : "Não tem predecessor"
                 );
             }
+
+            // Mesma execução no grafo renumerado: as distâncias voltam indexadas pelos números originais
+            Reordenacao r = g.paraCSRReordenado();
+            var ws = new EspacoDeBusca(g.quantidadeVertices());
+            int[] distancias = bellmanFord.distancias(r, 0, ws);
+            for (Grafo.Vertice v : g.getVertices()) {
+                StringBuilder caminho = new StringBuilder();
+                for (int u : bellmanFord.caminhoAte(r, v.indice, ws)) {
+                    if (caminho.length() > 0) caminho.append(" -> ");
+                    caminho.append(g.getVertices()[u].nome);
+                }
+                System.out.printf("Grafo renumerado: distância de s a %s: %d (caminho %s)\n", v.nome, distancias[v.indice], caminho);
+            }
         }else{ // grafo possui ciclo negativo
             System.out.println("Não foi possível aplicar o BellmanFord");
         }
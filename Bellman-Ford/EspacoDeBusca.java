@@ -0,0 +1,70 @@
+// Estado de uma consulta de caminho mínimo (distâncias e predecessores)
+// separado do Grafo: o grafo só é lido durante a busca, então várias threads podem consultar
+// o mesmo grafo ao mesmo tempo, cada uma com o seu próprio EspacoDeBusca.
+// O espaço é reutilizável: em vez de apagar os vetores a cada consulta (O(V)), cada posição
+// guarda a "época" em que foi escrita; valores de épocas antigas valem como infinito/sem predecessor.
+public class EspacoDeBusca {
+    public static final int INFINITO = Integer.MAX_VALUE; // Distância de vértices ainda não alcançados
+
+    private final int[] distancia;   // distancia[v] = menor distância conhecida até v (válida só na época atual)
+    private final int[] predecessor; // predecessor[v] = vértice anterior a v no caminho mínimo (-1 = nenhum)
+    private final int[] epoca;       // epoca[v] = consulta em que distancia[v] e predecessor[v] foram escritos
+    private int epocaAtual;          // Número da consulta atual
+
+    // Construtor: recebe a quantidade de vértices do grafo que será consultado
+    public EspacoDeBusca(int quantidadeVertices) {
+        distancia = new int[quantidadeVertices];
+        predecessor = new int[quantidadeVertices];
+        epoca = new int[quantidadeVertices];
+        epocaAtual = 0;
+    }
+
+    // Prepara o espaço para uma nova consulta em O(1): basta avançar a época
+    public void reiniciar() {
+        epocaAtual++;
+        if (epocaAtual == Integer.MAX_VALUE) { // Estouro do contador (raro): aí sim zera tudo
+            java.util.Arrays.fill(epoca, 0);
+            epocaAtual = 1;
+        }
+    }
+
+    // Retorna a distância do vértice v na consulta atual (INFINITO se não foi alcançado)
+    public int distancia(int v) {
+        return epoca[v] == epocaAtual ? distancia[v] : INFINITO;
+    }
+
+    // Retorna o predecessor do vértice v na consulta atual (-1 se não tem)
+    public int predecessor(int v) {
+        return epoca[v] == epocaAtual ? predecessor[v] : -1;
+    }
+
+    // Verifica se o vértice v foi alcançado na consulta atual
+    public boolean alcancado(int v) {
+        return epoca[v] == epocaAtual;
+    }
+
+    // Grava a nova distância e o predecessor de v na consulta atual
+    public void atualizar(int v, int dist, int pred) {
+        distancia[v] = dist;
+        predecessor[v] = pred;
+        epoca[v] = epocaAtual;
+    }
+
+    // Quantidade de vértices suportada por este espaço
+    public int capacidade() {
+        return distancia.length;
+    }
+
+    // Reconstrói o caminho da origem até o destino seguindo os predecessores
+    // Retorna um vetor vazio se o destino não foi alcançado
+    public int[] caminhoAte(int destino) {
+        if (!alcancado(destino)) return new int[0];
+
+        int tamanho = 0;
+        for (int v = destino; v != -1; v = predecessor(v)) tamanho++;
+
+        int[] caminho = new int[tamanho];
+        for (int v = destino; v != -1; v = predecessor(v)) caminho[--tamanho] = v;
+        return caminho;
+    }
+}
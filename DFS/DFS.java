@@ -22,6 +22,127 @@ public class Grafo {
         adj[destino].add(origem);
     }
 
+    // Copia as listas de adjacência para um GrafoCSR (vetores primitivos, imutável).
+    // Cada aresta não direcionada já está nas duas listas, então vira duas arestas no CSR
+    public GrafoCSR paraCSR() {
+        int arestas = 0;
+        for (LinkedList<Integer> lista : adj) arestas += lista.size();
+
+        var construtor = new GrafoCSR.Construtor(V, arestas);
+        for (int v = 0; v < V; v++) {
+            for (int vizinho : adj[v]) construtor.adicionarAresta(v, vizinho);
+        }
+        return construtor.construir();
+    }
+
+    // Copia as listas de adjacência para um GrafoForaDoHeap (vetores em memória nativa, fora do heap).
+    // Os algoritmos de GrafoCompacto (como dfs) rodam sobre ele sem mudança
+    public GrafoForaDoHeap paraForaDoHeap() {
+        int arestas = 0;
+        for (LinkedList<Integer> lista : adj) arestas += lista.size();
+
+        var g = new GrafoForaDoHeap(V, arestas, false);
+        int e = 0;
+        for (int v = 0; v < V; v++) {
+            g.definirInicio(v, e);
+            for (int vizinho : adj[v]) g.definirAresta(e++, vizinho, 1);
+        }
+        g.definirInicio(V, e);
+        return g;
+    }
+
+    // DFS sobre um GrafoCompacto (GrafoCSR, GrafoMapeado ou GrafoForaDoHeap): retorna os vértices alcançados a partir de 'inicio', na ordem de visita.
+    // A pilha guarda o vértice e a posição da próxima aresta a examinar, então tem no máximo V entradas
+    // (a versão com Stack<Integer> empilha um elemento por aresta). Os vizinhos são visitados
+    // na ordem em que aparecem no grafo, como na DFS recursiva.
+    public static int[] dfs(GrafoCompacto g, int inicio) {
+        int n = g.quantidadeVertices();
+        boolean[] visitado = new boolean[n];
+        int[] ordem = new int[n];
+        int visitados = 0;
+
+        int[] pilha = new int[n];        // Vértices do caminho atual
+        int[] proximaAresta = new int[n]; // Próxima aresta a examinar de cada vértice da pilha
+        int topo = 0;
+
+        visitado[inicio] = true;
+        ordem[visitados++] = inicio;
+        pilha[topo] = inicio;
+        proximaAresta[topo] = g.inicio(inicio);
+        topo++;
+
+        while (topo > 0) {
+            int atual = pilha[topo - 1];
+            int e = proximaAresta[topo - 1];
+            if (e == g.fim(atual)) { // Todos os vizinhos examinados: volta
+                topo--;
+                continue;
+            }
+            proximaAresta[topo - 1] = e + 1;
+
+            int vizinho = g.destino(e);
+            if (!visitado[vizinho]) {
+                visitado[vizinho] = true;
+                ordem[visitados++] = vizinho;
+                pilha[topo] = vizinho;
+                proximaAresta[topo] = g.inicio(vizinho);
+                topo++;
+            }
+        }
+        return Arrays.copyOf(ordem, visitados);
+    }
+
+    // Mesma DFS sobre um GrafoComprimido. Cada entrada da pilha guarda o estado do cursor do seu vértice
+    // (posição na lista comprimida, vizinhos restantes e último vizinho lido) em vez da próxima aresta.
+    // Os vizinhos são visitados em ordem crescente de número (as listas comprimidas são ordenadas)
+    public static int[] dfs(GrafoComprimido g, int inicio) {
+        int n = g.quantidadeVertices();
+        boolean[] visitado = new boolean[n];
+        int[] ordem = new int[n];
+        int visitados = 0;
+
+        int[] pilha = new int[n];       // Vértices do caminho atual
+        long[] posicao = new long[n];   // Estado do cursor de cada vértice da pilha
+        int[] restantes = new int[n];
+        int[] ultimo = new int[n];
+        int topo = 0;
+        GrafoComprimido.Cursor cursor = g.cursor();
+
+        visitado[inicio] = true;
+        ordem[visitados++] = inicio;
+        cursor.abrir(inicio);
+        pilha[topo] = inicio;
+        posicao[topo] = cursor.posicao();
+        restantes[topo] = cursor.restantes();
+        ultimo[topo] = cursor.ultimo();
+        topo++;
+
+        while (topo > 0) {
+            int atual = pilha[topo - 1];
+            if (restantes[topo - 1] == 0) { // Todos os vizinhos examinados: volta
+                topo--;
+                continue;
+            }
+            cursor.retomar(atual, posicao[topo - 1], restantes[topo - 1], ultimo[topo - 1]);
+            int vizinho = cursor.proximo();
+            posicao[topo - 1] = cursor.posicao();
+            restantes[topo - 1] = cursor.restantes();
+            ultimo[topo - 1] = vizinho;
+
+            if (!visitado[vizinho]) {
+                visitado[vizinho] = true;
+                ordem[visitados++] = vizinho;
+                cursor.abrir(vizinho);
+                pilha[topo] = vizinho;
+                posicao[topo] = cursor.posicao();
+                restantes[topo] = cursor.restantes();
+                ultimo[topo] = cursor.ultimo();
+                topo++;
+            }
+        }
+        return Arrays.copyOf(ordem, visitados);
+    }
+
     // Método que realiza a busca em profundidade, usando pilha
     public void dfs(int inicio) {
         boolean[] visitado = new boolean[V]; // Vetor para controlar quais vértices já foram visitados
@@ -49,7 +170,20 @@ public class Grafo {
         }
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws java.io.IOException {
+        // Grafo em arquivo: java Grafo -m grafo.bin [inicio]  (binário de ArquivoDeGrafo, mapeado)
+        //                  java Grafo -e arestas.txt [inicio] (texto DIMACS/SNAP, LeitorDeArestas)
+        if (args.length >= 2 && (args[0].equals("-m") || args[0].equals("-e"))) {
+            java.nio.file.Path arquivo = java.nio.file.Path.of(args[1]);
+            GrafoCompacto g = args[0].equals("-m") ? ArquivoDeGrafo.abrir(arquivo) : LeitorDeArestas.ler(arquivo, true, true);
+            int inicio = args.length > 2 ? Integer.parseInt(args[2]) : 0;
+            System.out.println("DFS a partir do vértice " + inicio + ":");
+            StringBuilder saida = new StringBuilder();
+            for (int v : dfs(g, inicio)) saida.append(v).append(' ');
+            System.out.println(saida);
+            return;
+        }
+
         // Lê o número de vértices a partir do primeiro argumento
         int numVertices = Integer.parseInt(args[0]);
 
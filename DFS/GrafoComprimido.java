@@ -0,0 +1,284 @@
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+// Grafo somente leitura com as listas de adjacência comprimidas, para grafos grandes demais para um GrafoCSR.
+// Os vizinhos de cada vértice são ordenados e guardados como diferenças (gaps) em inteiros de tamanho
+// variável (varint: 7 bits por byte, o bit mais alto indica que o número continua):
+//   grau(u), zigzag(v0 - u), v1 - v0, v2 - v1, ...
+// Em grafos com boa localidade (vizinhos com números próximos, como depois da Reordenacao) quase
+// toda diferença cabe em um byte, contra 4 bytes por aresta no GrafoCSR.
+// Pesos, se houver, vêm logo depois de cada diferença: em 1 byte fixo quando todos estão entre 0 e 255,
+// senão em varint (zigzag, para aceitar negativos).
+// Para achar o começo da lista de u sem decodificar as anteriores, há um ponteiro absoluto (long)
+// a cada BLOCO vértices e, para cada vértice, o deslocamento em relação ao ponteiro do seu bloco
+// em 2 bytes. Os raros vértices que ficam a mais de 64 KB do começo do bloco (depois de uma lista
+// enorme no mesmo bloco) guardam um valor reservado, e a posição deles fica em uma pequena tabela
+// de exceções (busca binária); os outros vértices do grafo não pagam nada por isso.
+// Os bytes ficam em pedaços de até 1 GB (um vetor do Java tem no máximo 2 GB); uma lista nunca
+// é dividida entre dois pedaços, então a decodificação lê sempre um único byte[].
+// Os algoritmos percorrem as arestas com um Cursor, que decodifica os vizinhos conforme são pedidos.
+public final class GrafoComprimido {
+    private static final int BITS_PEDACO = 30;
+    private static final int TAMANHO_PEDACO = 1 << BITS_PEDACO;
+    private static final int BITS_BLOCO = 6;
+    private static final int BLOCO = 1 << BITS_BLOCO; // Vértices por ponteiro absoluto
+    private static final char FORA_DO_BLOCO = Character.MAX_VALUE; // Deslocamento que não cabe em 2 bytes
+
+    private final int vertices;
+    private final int arestas;
+    private final byte[][] pedacos;      // Listas de adjacência codificadas
+    private final long[] ponteiroBloco;  // Posição (pedaço << 30 | deslocamento) da lista do primeiro vértice de cada bloco
+    private final char[] deslocamento;   // Posição da lista de u menos ponteiroBloco[u / BLOCO] (ou FORA_DO_BLOCO)
+    private final int[] verticesForaDoBloco;  // Vértices com deslocamento FORA_DO_BLOCO, em ordem crescente
+    private final long[] posicoesForaDoBloco; // Posição absoluta da lista de cada um deles
+    private final boolean temPesos;
+    private final boolean pesosEmByte;   // Pesos entre 0 e 255, gravados em 1 byte cada
+
+    private GrafoComprimido(int vertices, int arestas, byte[][] pedacos, long[] ponteiroBloco, char[] deslocamento,
+                            int[] verticesForaDoBloco, long[] posicoesForaDoBloco, boolean temPesos, boolean pesosEmByte) {
+        this.vertices = vertices;
+        this.arestas = arestas;
+        this.pedacos = pedacos;
+        this.ponteiroBloco = ponteiroBloco;
+        this.deslocamento = deslocamento;
+        this.verticesForaDoBloco = verticesForaDoBloco;
+        this.posicoesForaDoBloco = posicoesForaDoBloco;
+        this.temPesos = temPesos;
+        this.pesosEmByte = pesosEmByte;
+    }
+
+    // Comprime um GrafoCompacto (GrafoCSR ou GrafoMapeado, que pode estar em disco)
+    public static GrafoComprimido comprimir(GrafoCompacto g) {
+        int n = g.quantidadeVertices();
+        boolean temPesos = g.temPesos();
+        boolean pesosEmByte = temPesos && IntStream.range(0, g.quantidadeArestas()).parallel()
+            .allMatch(e -> g.peso(e) >= 0 && g.peso(e) <= 255);
+
+        var escritor = new Escritor();
+        long[] ponteiroBloco = new long[(n + BLOCO - 1) >> BITS_BLOCO];
+        char[] deslocamento = new char[n];
+        int[] verticesForaDoBloco = new int[0];
+        long[] posicoesForaDoBloco = new long[0];
+        int foraDoBloco = 0;
+        long[] pares = new long[16];
+
+        for (int u = 0; u < n; u++) {
+            int grau = g.grau(u);
+            // Pior caso da lista: 5 bytes para o grau e para cada diferença e cada peso
+            long maximo = 5L + 5L * grau * (temPesos ? 2 : 1);
+            if (maximo > TAMANHO_PEDACO) throw new IllegalArgumentException("Vértice " + u + " tem vizinhos demais: " + grau);
+            escritor.reservar((int) maximo);
+
+            long posicao = escritor.posicao();
+            if ((u & (BLOCO - 1)) == 0) ponteiroBloco[u >> BITS_BLOCO] = posicao;
+            long relativa = posicao - ponteiroBloco[u >> BITS_BLOCO];
+            if (relativa < FORA_DO_BLOCO) {
+                deslocamento[u] = (char) relativa;
+            } else { // Longe demais do começo do bloco: vai para a tabela de exceções
+                if (foraDoBloco == verticesForaDoBloco.length) {
+                    verticesForaDoBloco = Arrays.copyOf(verticesForaDoBloco, Math.max(16, foraDoBloco * 2));
+                    posicoesForaDoBloco = Arrays.copyOf(posicoesForaDoBloco, verticesForaDoBloco.length);
+                }
+                deslocamento[u] = FORA_DO_BLOCO;
+                verticesForaDoBloco[foraDoBloco] = u;
+                posicoesForaDoBloco[foraDoBloco++] = posicao;
+            }
+
+            // Ordena os vizinhos (junto com o peso) para que as diferenças sejam pequenas e não negativas
+            if (pares.length < grau) pares = new long[Math.max(grau, pares.length + (pares.length >> 1))];
+            for (int k = 0, e = g.inicio(u); k < grau; k++, e++) {
+                pares[k] = ((long) g.destino(e) << 32) | (temPesos ? (g.peso(e) ^ Integer.MIN_VALUE) & 0xFFFFFFFFL : 0);
+            }
+            Arrays.sort(pares, 0, grau);
+
+            escritor.varint(grau);
+            int anterior = u;
+            for (int k = 0; k < grau; k++) {
+                int v = (int) (pares[k] >>> 32);
+                escritor.varint(k == 0 ? zigzag(v - u) : v - anterior);
+                anterior = v;
+                if (!temPesos) continue;
+                int peso = (int) pares[k] ^ Integer.MIN_VALUE;
+                if (pesosEmByte) escritor.byteCru(peso);
+                else escritor.varint(zigzag(peso));
+            }
+        }
+        return new GrafoComprimido(n, g.quantidadeArestas(), escritor.terminar(), ponteiroBloco, deslocamento,
+            Arrays.copyOf(verticesForaDoBloco, foraDoBloco), Arrays.copyOf(posicoesForaDoBloco, foraDoBloco), temPesos, pesosEmByte);
+    }
+
+    // Quantidade de vértices do grafo
+    public int quantidadeVertices() {
+        return vertices;
+    }
+
+    // Quantidade de arestas (uma aresta não direcionada conta duas vezes: ida e volta)
+    public int quantidadeArestas() {
+        return arestas;
+    }
+
+    // Indica se as arestas têm peso próprio
+    public boolean temPesos() {
+        return temPesos;
+    }
+
+    // Quantidade de arestas que saem de u (lê só o começo da lista)
+    public int grau(int u) {
+        long posicao = posicaoDaLista(u);
+        var cursor = new Cursor();
+        cursor.bloco = pedacos[(int) (posicao >>> BITS_PEDACO)];
+        cursor.posicao = (int) (posicao & (TAMANHO_PEDACO - 1));
+        return cursor.varint();
+    }
+
+    // Memória ocupada pelas listas e pelos índices, em bytes (aproximada)
+    public long memoriaEmBytes() {
+        long total = 8L * ponteiroBloco.length + 2L * vertices + 12L * verticesForaDoBloco.length;
+        for (byte[] pedaco : pedacos) total += pedaco.length;
+        return total;
+    }
+
+    // Cria um cursor para percorrer as arestas (cada thread deve usar o seu)
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    private long posicaoDaLista(int u) {
+        char d = deslocamento[u];
+        if (d != FORA_DO_BLOCO) return ponteiroBloco[u >> BITS_BLOCO] + d;
+        return posicoesForaDoBloco[Arrays.binarySearch(verticesForaDoBloco, u)];
+    }
+
+    private static int zigzag(int x) {
+        return (x << 1) ^ (x >> 31);
+    }
+
+    private static int desfazerZigzag(int x) {
+        return (x >>> 1) ^ -(x & 1);
+    }
+
+    // Percorre os vizinhos de um vértice, decodificando um por vez:
+    //   cursor.abrir(u); while (cursor.temProximo()) { int v = cursor.proximo(); int p = cursor.peso(); ... }
+    // O estado (posicao, restantes, ultimo) pode ser guardado e retomado depois, o que permite
+    // uma DFS com pilha de cursores sem criar um objeto por vértice.
+    public final class Cursor {
+        private byte[] bloco;
+        private int pedaco;
+        private int posicao;
+        private int restantes;
+        private int origem;
+        private int ultimo; // Último vizinho devolvido (-1 antes do primeiro)
+        private int peso;
+
+        private Cursor() {
+        }
+
+        // Posiciona o cursor no começo da lista de u
+        public void abrir(int u) {
+            long p = posicaoDaLista(u);
+            pedaco = (int) (p >>> BITS_PEDACO);
+            bloco = pedacos[pedaco];
+            posicao = (int) (p & (TAMANHO_PEDACO - 1));
+            restantes = varint();
+            origem = u;
+            ultimo = -1;
+        }
+
+        // Indica se ainda há vizinhos a ler
+        public boolean temProximo() {
+            return restantes > 0;
+        }
+
+        // Próximo vizinho (em ordem crescente de número)
+        public int proximo() {
+            restantes--;
+            int diferenca = varint();
+            ultimo = ultimo < 0 ? origem + desfazerZigzag(diferenca) : ultimo + diferenca;
+            if (temPesos) peso = pesosEmByte ? bloco[posicao++] & 0xFF : desfazerZigzag(varint());
+            return ultimo;
+        }
+
+        // Peso da aresta até o último vizinho devolvido (1 se o grafo não tem pesos)
+        public int peso() {
+            return temPesos ? peso : 1;
+        }
+
+        // Estado atual, para retomar(origem, posicao, restantes, ultimo)
+        public long posicao() {
+            return ((long) pedaco << BITS_PEDACO) | posicao;
+        }
+
+        public int restantes() {
+            return restantes;
+        }
+
+        public int ultimo() {
+            return ultimo;
+        }
+
+        // Volta a um estado guardado com posicao(), restantes() e ultimo() na lista de 'origem'
+        public void retomar(int origem, long posicao, int restantes, int ultimo) {
+            this.pedaco = (int) (posicao >>> BITS_PEDACO);
+            this.bloco = pedacos[pedaco];
+            this.posicao = (int) (posicao & (TAMANHO_PEDACO - 1));
+            this.restantes = restantes;
+            this.origem = origem;
+            this.ultimo = ultimo;
+        }
+
+        private int varint() {
+            int b = bloco[posicao++];
+            if (b >= 0) return b; // Caso mais comum: número de 1 byte
+            int valor = b & 0x7F;
+            int bits = 7;
+            do {
+                b = bloco[posicao++];
+                valor |= (b & 0x7F) << bits;
+                bits += 7;
+            } while (b < 0);
+            return valor;
+        }
+    }
+
+    // Grava as listas em pedaços de até 1 GB, que crescem 50% quando enchem
+    private static final class Escritor {
+        private final java.util.List<byte[]> cheios = new java.util.ArrayList<>();
+        private byte[] atual = new byte[1 << 16];
+        private int tamanho = 0;
+
+        long posicao() {
+            return ((long) cheios.size() << BITS_PEDACO) | tamanho;
+        }
+
+        // Garante espaço para 'bytes' bytes no pedaço atual (começa outro pedaço se não couber)
+        void reservar(int bytes) {
+            if (tamanho + (long) bytes > TAMANHO_PEDACO) {
+                cheios.add(Arrays.copyOf(atual, tamanho));
+                atual = new byte[1 << 16];
+                tamanho = 0;
+            }
+            if (tamanho + bytes > atual.length) {
+                long novaCapacidade = Math.max(tamanho + (long) bytes, atual.length + (atual.length >> 1));
+                atual = Arrays.copyOf(atual, (int) Math.min(TAMANHO_PEDACO, novaCapacidade));
+            }
+        }
+
+        // Inteiro sem sinal em varint
+        void varint(int x) {
+            while ((x & ~0x7F) != 0) {
+                atual[tamanho++] = (byte) ((x & 0x7F) | 0x80);
+                x >>>= 7;
+            }
+            atual[tamanho++] = (byte) x;
+        }
+
+        void byteCru(int x) {
+            atual[tamanho++] = (byte) x;
+        }
+
+        byte[][] terminar() {
+            cheios.add(Arrays.copyOf(atual, tamanho));
+            return cheios.toArray(new byte[0][]);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+// Resultado compacto de um Dijkstra completo a partir de uma origem:
+// distâncias e predecessores em vetores primitivos, independentes do EspacoDeBusca que os calculou.
+// É imutável (os vetores não saem daqui), então a mesma árvore pode ser entregue a várias threads,
+// como faz o CacheDeArvores.
+public class ArvoreDeCaminhos {
+    public final int origem;
+    private final int[] distancia;   // distancia[v] = menor distância da origem até v (EspacoDeBusca.INFINITO se não alcançável)
+    private final int[] predecessor; // predecessor[v] = vértice anterior a v no caminho mínimo (-1 = nenhum)
+
+    // Criada só por copiar(), com vetores novos que ninguém mais altera
+    private ArvoreDeCaminhos(int origem, int[] distancia, int[] predecessor) {
+        this.origem = origem;
+        this.distancia = distancia;
+        this.predecessor = predecessor;
+    }
+
+    // Copia o resultado atual de um EspacoDeBusca (que depois pode ser reutilizado)
+    public static ArvoreDeCaminhos copiar(int origem, EspacoDeBusca ws) {
+        int n = ws.capacidade();
+        int[] distancia = new int[n];
+        int[] predecessor = new int[n];
+        for (int v = 0; v < n; v++) {
+            distancia[v] = ws.distancia(v);
+            predecessor[v] = ws.predecessor(v);
+        }
+        return new ArvoreDeCaminhos(origem, distancia, predecessor);
+    }
+
+    // Menor distância da origem até v (EspacoDeBusca.INFINITO se não alcançável)
+    public int distancia(int v) {
+        return distancia[v];
+    }
+
+    // Vértice anterior a v no caminho mínimo (-1 = nenhum)
+    public int predecessor(int v) {
+        return predecessor[v];
+    }
+
+    // Cópia das distâncias de todos os vértices
+    public int[] distancias() {
+        return distancia.clone();
+    }
+
+    // Reconstrói o caminho da origem até o destino (vetor vazio se o destino não foi alcançado)
+    public int[] caminhoAte(int destino) {
+        if (distancia[destino] == EspacoDeBusca.INFINITO) return new int[0];
+
+        int tamanho = 0;
+        for (int v = destino; v != -1; v = predecessor[v]) tamanho++;
+
+        int[] caminho = new int[tamanho];
+        for (int v = destino; v != -1; v = predecessor[v]) caminho[--tamanho] = v;
+        return caminho;
+    }
+
+    // Memória aproximada ocupada pela árvore, em bytes (dois vetores de int mais cabeçalhos)
+    public long tamanhoEmBytes() {
+        return 4L * (distancia.length + predecessor.length) + 64;
+    }
+}
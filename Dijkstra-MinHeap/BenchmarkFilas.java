@@ -0,0 +1,67 @@
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+// Compara o tempo do Dijkstra (executar com EspacoDeBusca) usando cada FilaDePrioridade
+// em grafos aleatórios com diferentes faixas de peso das arestas.
+// Uso: java BenchmarkFilas [vertices] [arestasPorVertice]   (padrão: 1.000.000 e 4)
+// Para a família de grafos densos, use poucos vértices e muitas arestas (ex.: 20000 200).
+public class BenchmarkFilas {
+
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int grau = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int[] maioresPesos = {1, 10, 100, 10_000, 1_000_000};
+        String[] nomesFilas = {"binário", "4-ário", "8-ário", "pareamento", "baldes (Dial)", "radix"};
+
+        System.out.printf("%d vértices, %d arestas por vértice (tempo médio por Dijkstra completo, em ms)\n", n, grau);
+        System.out.printf("%12s", "maior peso");
+        for (String nome : nomesFilas) System.out.printf(" %14s", nome);
+        System.out.println();
+
+        for (int maiorPeso : maioresPesos) {
+            Grafo g = grafoAleatorio(n, grau, maiorPeso, new Random(maiorPeso));
+            List<IntFunction<FilaDePrioridade>> filas = List.of(
+                tamanho -> new MinHeapIndexado(tamanho),
+                tamanho -> new HeapDAria(tamanho, 4),
+                tamanho -> new HeapDAria(tamanho, 8),
+                tamanho -> new HeapPareamento(tamanho),
+                tamanho -> new FilaDeBaldes(tamanho, maiorPeso),
+                tamanho -> new HeapRadix(tamanho)
+            );
+
+            System.out.printf("%12d", maiorPeso);
+            for (IntFunction<FilaDePrioridade> fila : filas) System.out.printf(" %14.1f", medir(g, fila));
+            System.out.println();
+        }
+    }
+
+    // Grafo com um ciclo passando por todos os vértices (tudo alcançável) e arestas aleatórias
+    private static Grafo grafoAleatorio(int n, int grau, int maiorPeso, Random rnd) {
+        String[] nomes = new String[n];
+        for (int i = 0; i < n; i++) nomes[i] = "v" + i;
+
+        Grafo g = new Grafo(nomes);
+        for (int u = 0; u < n; u++) {
+            g.adicionarAresta(u, (u + 1) % n, rnd.nextInt(maiorPeso + 1));
+            for (int i = 1; i < grau; i++) {
+                g.adicionarAresta(u, rnd.nextInt(n), rnd.nextInt(maiorPeso + 1));
+            }
+        }
+        return g;
+    }
+
+    // Tempo médio (ms) de um Dijkstra completo a partir de origens diferentes, depois do aquecimento
+    private static double medir(Grafo g, IntFunction<FilaDePrioridade> novaFila) {
+        int n = g.quantidadeVertices();
+        var ws = new EspacoDeBusca(n, novaFila.apply(n));
+        var dijkstra = new Dijkstra();
+
+        for (int s = 0; s < 3; s++) dijkstra.executar(g, s, ws); // aquecimento da JIT
+
+        int repeticoes = 5;
+        long inicio = System.nanoTime();
+        for (int s = 0; s < repeticoes; s++) dijkstra.executar(g, s * 7919 % n, ws);
+        return (System.nanoTime() - inicio) / 1e6 / repeticoes;
+    }
+}
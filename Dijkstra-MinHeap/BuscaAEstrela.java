@@ -0,0 +1,59 @@
+// Busca A* (A-estrela) ponto a ponto sobre o Grafo do Dijkstra.
+// É o mesmo laço do Dijkstra, mas a prioridade de cada vértice na fila é
+// distância até ele + estimativa da distância restante até o destino (Heuristica).
+// Com uma boa heurística (ex.: Landmarks), a busca examina só uma pequena parte do grafo.
+// Cada instância guarda seu próprio EspacoDeBusca: use uma instância por thread.
+public class BuscaAEstrela {
+    private final EspacoDeBusca ws;
+    private int verticesExaminados; // Vértices retirados da fila na última consulta
+
+    // Construtor: recebe a quantidade de vértices do grafo que será consultado
+    public BuscaAEstrela(int quantidadeVertices) {
+        ws = new EspacoDeBusca(quantidadeVertices);
+    }
+
+    // Retorna a menor distância da origem ao destino (EspacoDeBusca.INFINITO se não houver caminho)
+    public int executar(Grafo g, int origem, int destino, Heuristica h) {
+        ws.reiniciar();
+        verticesExaminados = 0;
+        ws.atualizar(origem, 0, -1);
+
+        FilaDePrioridade q = ws.fila();
+        q.insert(origem, h.estimativa(origem, destino));
+
+        while (!q.isEmpty()) {
+            int u = q.extractMin();
+            verticesExaminados++;
+            if (u == destino) break; // Com heurística admissível, a distância do destino já é a mínima
+
+            int du = ws.distancia(u);
+            for (Grafo.Aresta aresta : g.vizinhos(u)) {
+                int v = aresta.destino;
+                int novaDistancia = du + aresta.peso;
+
+                if (novaDistancia < ws.distancia(v)) {
+                    ws.atualizar(v, novaDistancia, u);
+                    long prioridade = (long) novaDistancia + h.estimativa(v, destino);
+                    if (q.contains(v)) {
+                        q.decreaseKey(v, prioridade);
+                    } else {
+                        // Primeira descoberta de 'v' ou reabertura (só acontece se a heurística
+                        // for admissível mas não consistente)
+                        q.insert(v, prioridade);
+                    }
+                }
+            }
+        }
+        return ws.distancia(destino);
+    }
+
+    // Reconstrói o caminho da última consulta até o destino (vetor vazio se não houve caminho)
+    public int[] caminho(int destino) {
+        return ws.caminhoAte(destino);
+    }
+
+    // Quantidade de vértices examinados (retirados da fila) na última consulta
+    public int verticesExaminados() {
+        return verticesExaminados;
+    }
+}
@@ -0,0 +1,122 @@
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Cache de árvores de caminhos mínimos na frente do Dijkstra.
+// Guarda o resultado completo (ArvoreDeCaminhos) das origens consultadas recentemente, até um limite
+// de memória; quando o limite estoura, descarta a origem usada há mais tempo (LRU).
+// Consultas repetidas da mesma origem são respondidas da memória, sem rodar o Dijkstra.
+// Sempre que o grafo muda (adicionarAresta altera g.versao()), todo o cache é descartado.
+// Pode ser usado por várias threads ao mesmo tempo: as árvores entregues são imutáveis e podem ser
+// compartilhadas, e g.versao() é volátil, então uma aresta nova é vista pelas outras threads.
+public class CacheDeArvores {
+    private final Grafo g;
+    private final long limiteBytes;
+
+    // LinkedHashMap em ordem de acesso: o primeiro elemento é sempre o usado há mais tempo
+    private final LinkedHashMap<Integer, ArvoreDeCaminhos> arvores = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytesUsados;
+    private long versaoDoGrafo; // Versão do grafo em que as árvores guardadas foram calculadas
+
+    // Espaço de busca de cada thread, para calcular as árvores que não estão no cache
+    private final ThreadLocal<EspacoDeBusca> espacos;
+
+    // Contadores
+    private long acertos;
+    private long falhas;
+    private long despejos;
+    private long invalidacoes;
+
+    // Construtor: recebe o grafo e quanta memória (em bytes) o cache pode ocupar
+    public CacheDeArvores(Grafo g, long limiteBytes) {
+        this.g = g;
+        this.limiteBytes = limiteBytes;
+        this.versaoDoGrafo = g.versao();
+        this.espacos = ThreadLocal.withInitial(() -> new EspacoDeBusca(g.quantidadeVertices()));
+    }
+
+    // Retorna a árvore de caminhos mínimos da origem, calculando (e guardando) se necessário
+    public ArvoreDeCaminhos consultar(int origem) {
+        long versao;
+        synchronized (this) {
+            invalidarSeGrafoMudou();
+            ArvoreDeCaminhos arvore = arvores.get(origem);
+            if (arvore != null) {
+                acertos++;
+                return arvore;
+            }
+            falhas++;
+            versao = versaoDoGrafo;
+        }
+
+        // O Dijkstra roda fora do bloqueio, para não travar as outras threads
+        EspacoDeBusca ws = espacos.get();
+        new Dijkstra().executar(g, origem, ws);
+        ArvoreDeCaminhos arvore = ArvoreDeCaminhos.copiar(origem, ws);
+
+        synchronized (this) {
+            // Só guarda se o grafo não mudou enquanto calculávamos (e se cabe no limite)
+            if (versao == g.versao() && versao == versaoDoGrafo && arvore.tamanhoEmBytes() <= limiteBytes
+                    && !arvores.containsKey(origem)) {
+                arvores.put(origem, arvore);
+                bytesUsados += arvore.tamanhoEmBytes();
+                despejarExcesso();
+            }
+        }
+        return arvore;
+    }
+
+    // Atalho: menor distância da origem até o destino usando o cache
+    public int distancia(int origem, int destino) {
+        return consultar(origem).distancia(destino);
+    }
+
+    // Descarta todas as árvores guardadas
+    public synchronized void limpar() {
+        arvores.clear();
+        bytesUsados = 0;
+    }
+
+    public synchronized long acertos() {
+        return acertos;
+    }
+
+    public synchronized long falhas() {
+        return falhas;
+    }
+
+    public synchronized long despejos() {
+        return despejos;
+    }
+
+    public synchronized long invalidacoes() {
+        return invalidacoes;
+    }
+
+    public synchronized long bytesUsados() {
+        return bytesUsados;
+    }
+
+    public synchronized int quantidadeArvores() {
+        return arvores.size();
+    }
+
+    // Se o grafo recebeu arestas desde o último cálculo, nenhuma árvore guardada vale mais
+    private void invalidarSeGrafoMudou() {
+        if (g.versao() != versaoDoGrafo) {
+            if (!arvores.isEmpty()) invalidacoes++;
+            limpar();
+            versaoDoGrafo = g.versao();
+        }
+    }
+
+    // Remove as árvores usadas há mais tempo até caber no limite de memória
+    private void despejarExcesso() {
+        Iterator<Map.Entry<Integer, ArvoreDeCaminhos>> it = arvores.entrySet().iterator();
+        while (bytesUsados > limiteBytes && it.hasNext()) {
+            bytesUsados -= it.next().getValue().tamanhoEmBytes();
+            it.remove();
+            despejos++;
+        }
+    }
+}
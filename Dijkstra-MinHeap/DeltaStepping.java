@@ -0,0 +1,183 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+// Caminhos mínimos de origem única em paralelo pelo método Δ-stepping (Meyer e Sanders).
+// Em vez de tirar um vértice por vez da fila (como o Dijkstra), os vértices são agrupados em
+// baldes de largura Δ pela distância: o balde i guarda quem tem distância em [i*Δ, (i+1)*Δ).
+// Todo o balde é processado de uma vez, em paralelo:
+//   1. arestas leves (peso <= Δ) são relaxadas repetidamente até o balde esvaziar
+//      (elas podem colocar vértices de volta no mesmo balde);
+//   2. depois, as arestas pesadas (peso > Δ) dos vértices que passaram pelo balde, uma única vez.
+// As distâncias ficam em um vetor int[] atualizado com compareAndSet (mínimo atômico),
+// então as threads só leem o Grafo e as distâncias finais são as mesmas do Dijkstra.
+// Δ pequeno = pouco trabalho repetido, mas pouco paralelismo; Δ grande = o contrário.
+public class DeltaStepping {
+    private static final VarHandle DISTANCIA = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final int delta;
+    private final ForkJoinPool pool;
+
+    // Construtor: recebe a largura Δ dos baldes e usa o pool comum (todos os núcleos)
+    public DeltaStepping(int delta) {
+        this(delta, ForkJoinPool.commonPool());
+    }
+
+    // Construtor que escolhe o pool de threads usado no relaxamento
+    public DeltaStepping(int delta, ForkJoinPool pool) {
+        if (delta < 1) throw new IllegalArgumentException("Δ deve ser pelo menos 1");
+        this.delta = delta;
+        this.pool = pool;
+    }
+
+    // Retorna a distância da origem 's' até cada vértice (EspacoDeBusca.INFINITO se não alcançável)
+    public int[] executar(Grafo g, int s) {
+        int n = g.quantidadeVertices();
+        int[] distancia = new int[n];
+        Arrays.fill(distancia, EspacoDeBusca.INFINITO);
+        distancia[s] = 0;
+
+        // Baldes não vazios, pelo número do balde; o menor é sempre o próximo a ser processado
+        TreeMap<Integer, ListaDeInteiros> baldes = new TreeMap<>();
+        baldes.put(0, new ListaDeInteiros());
+        baldes.get(0).adicionar(s);
+
+        int[] marca = new int[n]; // marca[v] = última rodada em que v entrou na fronteira (evita repetidos)
+        int rodada = 0;
+
+        while (!baldes.isEmpty()) {
+            int i = baldes.firstKey();
+            var processados = new ListaDeInteiros(); // Vértices que passaram pelo balde i (para as arestas pesadas)
+
+            // Fase 1: arestas leves, até o balde i não receber mais vértices
+            while (baldes.containsKey(i)) {
+                ListaDeInteiros candidatos = baldes.remove(i);
+                rodada++;
+
+                var fronteira = new ListaDeInteiros();
+                for (int k = 0; k < candidatos.tamanho; k++) {
+                    int v = candidatos.dados[k];
+                    // Ignora entradas velhas (a distância de v já caiu para outro balde) e repetidas
+                    if (distancia[v] / delta != i || marca[v] == rodada) continue;
+                    marca[v] = rodada;
+                    fronteira.adicionar(v);
+                    processados.adicionar(v);
+                }
+                distribuir(relaxarEmParalelo(g, fronteira, distancia, true), distancia, baldes);
+            }
+
+            // Fase 2: arestas pesadas dos vértices que saíram do balde i (levam sempre a baldes maiores)
+            distribuir(relaxarEmParalelo(g, processados, distancia, false), distancia, baldes);
+        }
+        return distancia;
+    }
+
+    // Coloca cada vértice melhorado no balde da sua nova distância
+    private void distribuir(List<ListaDeInteiros> melhorados, int[] distancia, TreeMap<Integer, ListaDeInteiros> baldes) {
+        for (ListaDeInteiros lista : melhorados) {
+            for (int k = 0; k < lista.tamanho; k++) {
+                int v = lista.dados[k];
+                baldes.computeIfAbsent(distancia[v] / delta, b -> new ListaDeInteiros()).adicionar(v);
+            }
+        }
+    }
+
+    // Divide os vértices em pedaços e relaxa as arestas leves (ou pesadas) de cada pedaço em uma tarefa.
+    // Cada tarefa devolve a lista dos vértices cuja distância ela conseguiu diminuir.
+    private List<ListaDeInteiros> relaxarEmParalelo(Grafo g, ListaDeInteiros vertices, int[] distancia, boolean leves) {
+        int pedacos = Math.min(vertices.tamanho, pool.getParallelism() * 4);
+        List<Callable<ListaDeInteiros>> tarefas = new ArrayList<>();
+        for (int p = 0; p < pedacos; p++) {
+            int inicio = (int) ((long) vertices.tamanho * p / pedacos);
+            int fim = (int) ((long) vertices.tamanho * (p + 1) / pedacos);
+            tarefas.add(() -> relaxar(g, vertices, inicio, fim, distancia, leves));
+        }
+
+        List<ListaDeInteiros> resultados = new ArrayList<>();
+        try {
+            for (Future<ListaDeInteiros> f : pool.invokeAll(tarefas)) resultados.add(f.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Δ-stepping interrompido", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+        return resultados;
+    }
+
+    private ListaDeInteiros relaxar(Grafo g, ListaDeInteiros vertices, int inicio, int fim, int[] distancia, boolean leves) {
+        var melhorados = new ListaDeInteiros();
+        for (int k = inicio; k < fim; k++) {
+            int u = vertices.dados[k];
+            int du = (int) DISTANCIA.getVolatile(distancia, u);
+            for (Grafo.Aresta aresta : g.vizinhos(u)) {
+                if ((aresta.peso <= delta) != leves) continue;
+                if (diminuir(distancia, aresta.destino, du + aresta.peso)) melhorados.adicionar(aresta.destino);
+            }
+        }
+        return melhorados;
+    }
+
+    // Mínimo atômico: grava 'nova' em distancia[v] só se for menor que o valor atual
+    private static boolean diminuir(int[] distancia, int v, int nova) {
+        int atual = (int) DISTANCIA.getVolatile(distancia, v);
+        while (nova < atual) {
+            if (DISTANCIA.compareAndSet(distancia, v, atual, nova)) return true;
+            atual = (int) DISTANCIA.getVolatile(distancia, v);
+        }
+        return false;
+    }
+
+    // Vetor de inteiros que cresce conforme necessário (evita List<Integer> e o boxing)
+    private static class ListaDeInteiros {
+        int[] dados = new int[16];
+        int tamanho = 0;
+
+        void adicionar(int x) {
+            if (tamanho == dados.length) dados = Arrays.copyOf(dados, tamanho * 2);
+            dados[tamanho++] = x;
+        }
+    }
+
+    // Compara o Δ-stepping com o Dijkstra em um grafo aleatório (distâncias e tempo)
+    // Uso: java DeltaStepping [vertices] [arestasPorVertice] [maiorPeso] [delta]
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int grau = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int maiorPeso = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+        int delta = args.length > 3 ? Integer.parseInt(args[3]) : maiorPeso / 4 + 1;
+
+        var rnd = new Random(42);
+        String[] nomes = new String[n];
+        for (int i = 0; i < n; i++) nomes[i] = "v" + i;
+        Grafo g = new Grafo(nomes);
+        for (int u = 0; u < n; u++) {
+            for (int i = 0; i < grau; i++) g.adicionarAresta(u, rnd.nextInt(n), rnd.nextInt(maiorPeso + 1));
+        }
+
+        var ws = new EspacoDeBusca(n);
+        var dijkstra = new Dijkstra();
+        var deltaStepping = new DeltaStepping(delta);
+        for (int rodada = 1; rodada <= 3; rodada++) {
+            long inicio = System.nanoTime();
+            dijkstra.executar(g, 0, ws);
+            long meio = System.nanoTime();
+            int[] distancia = deltaStepping.executar(g, 0);
+            long fim = System.nanoTime();
+
+            for (int v = 0; v < n; v++) {
+                if (distancia[v] != ws.distancia(v)) throw new IllegalStateException("Distância diferente no vértice " + v);
+            }
+            System.out.printf("Rodada %d: Dijkstra %.1f ms, Δ-stepping (Δ=%d, %d threads) %.1f ms\n",
+                rodada, (meio - inicio) / 1e6, delta, deltaStepping.pool.getParallelism(), (fim - meio) / 1e6);
+        }
+    }
+}
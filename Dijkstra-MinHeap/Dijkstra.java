@@ -7,20 +7,32 @@ class Grafo {
     private final Vertice[] vertices;
     // Lista de adjacência: cada índice contém a lista de arestas do vértice correspondente
     private List<List<Aresta>> adjacencias;
+    // Lista de adjacência reversa: cada índice contém as arestas que CHEGAM ao vértice correspondente
+    // (usada pela busca bidirecional, que anda do destino para trás)
+    private List<List<Aresta>> adjacenciasReversas;
+    // Contador de alterações: muda a cada aresta adicionada (usado para invalidar resultados guardados).
+    // Volátil: outras threads (ex.: CacheDeArvores) leem a versão para saber se um resultado ficou velho
+    private volatile long versao;
+    // Índice dos nomes (hash sem diferenciar maiúsculas/minúsculas + ordem alfabética para autocompletar)
+    private final IndiceDeNomes indiceDeNomes;
 
     // Construtor do grafo que recebe os nomes dos vértices
     Grafo(String[] nomesVertices) { // Exemplo: {RegiaoA, RegiaoB, RegiaoC, RegiaoD, RegiaoE}
         // Inicializa a lista principal de adjacências
         this.adjacencias = new ArrayList<>();
+        this.adjacenciasReversas = new ArrayList<>();
         // Cria o vetor de vértices
         this.vertices = new Vertice[nomesVertices.length];
 
         for (int i = 0; i < nomesVertices.length; i++) {
             // Inicializa a lista de vizinhos para cada vértice
             this.adjacencias.add(new ArrayList<>());
+            this.adjacenciasReversas.add(new ArrayList<>());
             // Cria cada vértice com nome e índice
             this.vertices[i] = new Vertice(nomesVertices[i], i);
         }
+        // Monta o índice de nomes uma única vez (os nomes não mudam depois da construção)
+        this.indiceDeNomes = new IndiceDeNomes(vertices);
     }
 
     // Método para adicionar uma aresta direcionada ao grafo
@@ -28,13 +40,63 @@ class Grafo {
         // Adiciona uma nova aresta à lista de vizinhos do vértice de origem
         // É um grafo direcionado pois adiciona somente em uma direção específica (origem -> destino)
         adjacencias.get(origem).add(new Aresta(destino, peso));
+        // Guarda também a aresta invertida (destino -> origem) no índice reverso
+        adjacenciasReversas.get(destino).add(new Aresta(origem, peso));
+        versao++; // O grafo mudou: resultados calculados antes desta aresta podem estar errados
+    }
+
+    // Retorna a versão atual do grafo (aumenta a cada chamada de adicionarAresta)
+    public long versao() {
+        return versao;
     }
 
     // Retorna a lista de arestas/vizinhos de um vértice dado pelo índice
+    // As consultas com EspacoDeBusca só leem esta lista, por isso podem rodar em paralelo
+    // desde que nenhuma aresta seja adicionada durante as buscas
     public List<Aresta> vizinhos(int u) {
         return adjacencias.get(u);
     }
 
+    // Retorna as arestas que chegam ao vértice v; em cada Aresta, 'destino' é o vértice de ORIGEM da aresta original
+    public List<Aresta> antecessores(int v) {
+        return adjacenciasReversas.get(v);
+    }
+
+    // Copia as arestas para um GrafoCSR (vetores primitivos, imutável), mantendo a ordem dos vizinhos
+    public GrafoCSR paraCSR() {
+        int arestas = 0;
+        for (List<Aresta> lista : adjacencias) arestas += lista.size();
+
+        var construtor = new GrafoCSR.Construtor(vertices.length, arestas);
+        for (int u = 0; u < vertices.length; u++) {
+            for (Aresta aresta : adjacencias.get(u)) construtor.adicionarAresta(u, aresta.destino, aresta.peso);
+        }
+        return construtor.construir();
+    }
+
+    // Copia as listas de adjacência para um GrafoForaDoHeap (vetores em memória nativa, fora do heap),
+    // sem passar por um GrafoCSR: as listas já estão agrupadas por vértice de origem
+    public GrafoForaDoHeap paraForaDoHeap() {
+        int arestas = 0;
+        for (List<Aresta> lista : adjacencias) arestas += lista.size();
+
+        var g = new GrafoForaDoHeap(vertices.length, arestas, true);
+        int e = 0;
+        for (int u = 0; u < vertices.length; u++) {
+            g.definirInicio(u, e);
+            for (Aresta aresta : adjacencias.get(u)) g.definirAresta(e++, aresta.destino, aresta.peso);
+        }
+        g.definirInicio(vertices.length, e);
+        return g;
+    }
+
+    // Copia as arestas para um GrafoCSR com os vértices renumerados por Cuthill-McKee reverso (vizinhos
+    // com números próximos, então os acessos a distancia[v] ficam próximos na memória). A Reordenacao
+    // traduz origens, destinos e caminhos entre os números novos e os originais (os dos nomes)
+    public Reordenacao paraCSRReordenado() {
+        return Reordenacao.cuthillMcKeeReverso(paraCSR());
+    }
+
     // Retorna o vetor de vértices do grafo
     public Vertice[] getVertices() {
         return vertices;
@@ -45,6 +107,16 @@ class Grafo {
         return vertices.length;
     }
 
+    // Retorna o índice do vértice pelo nome, sem diferenciar maiúsculas/minúsculas (-1 se não existir)
+    public int indiceDoNome(String nome) {
+        return indiceDeNomes.buscar(nome);
+    }
+
+    // Autocompletar: até 'limite' índices de vértices cujo nome começa com 'prefixo', em ordem alfabética
+    public int[] verticesComPrefixo(String prefixo, int limite) {
+        return indiceDeNomes.comPrefixo(prefixo, limite);
+    }
+
     // Classe interna que representa um vértice do grafo
     static class Vertice {
         String nome; // Nome do vértice
@@ -103,7 +175,146 @@ public class Dijkstra {
             }
         }
     }
-    
+
+    // Versão do Dijkstra que não escreve nos objetos Vertice do grafo:
+    // distâncias e predecessores ficam no EspacoDeBusca 'ws', e o grafo é apenas lido.
+    // Assim, várias threads podem executar consultas no mesmo grafo, cada uma com seu espaço.
+    public void executar(Grafo g, int s, EspacoDeBusca ws) {
+        buscar(g, s, -1, null, 0, EspacoDeBusca.INFINITO, false, ws, null);
+    }
+
+    // Dijkstra no grafo reverso: calcula a distância de cada vértice ATÉ 's' (usa g.antecessores).
+    // Em 'ws', o predecessor de v passa a ser o próximo vértice do caminho de v até 's'
+    public void executarReverso(Grafo g, int s, EspacoDeBusca ws) {
+        buscar(g, s, -1, null, 0, EspacoDeBusca.INFINITO, true, ws, null);
+    }
+
+    // Modo ponto a ponto: para assim que o destino sai do heap, pois a distância dele já é definitiva.
+    // Retorna a menor distância da origem ao destino (EspacoDeBusca.INFINITO se não houver caminho);
+    // o caminho pode ser reconstruído com ws.caminhoAte(destino)
+    public int executar(Grafo g, int origem, int destino, EspacoDeBusca ws) {
+        buscar(g, origem, destino, null, 0, EspacoDeBusca.INFINITO, false, ws, null);
+        return ws.distancia(destino);
+    }
+
+    // Modo um-para-muitos: para assim que os 'quantidadeDestinos' vértices marcados em 'ehDestino' saíram
+    // do heap (as distâncias deles ficam em 'ws'). 'quantidadeDestinos' conta vértices distintos
+    public void executarAteDestinos(Grafo g, int origem, boolean[] ehDestino, int quantidadeDestinos, EspacoDeBusca ws) {
+        buscar(g, origem, -1, ehDestino, quantidadeDestinos, EspacoDeBusca.INFINITO, false, ws, null);
+    }
+
+    // Dijkstra sobre um GrafoCompacto (GrafoCSR, GrafoMapeado ou GrafoForaDoHeap): mesmo laço, mas as arestas são lidas dos vetores do grafo
+    public void executar(GrafoCompacto g, int s, EspacoDeBusca ws) {
+        buscar(g, s, -1, ws);
+    }
+
+    // Modo ponto a ponto sobre um GrafoCompacto (para quando o destino sai do heap)
+    public int executar(GrafoCompacto g, int origem, int destino, EspacoDeBusca ws) {
+        buscar(g, origem, destino, ws);
+        return ws.distancia(destino);
+    }
+
+    // Modo ponto a ponto sobre o grafo renumerado de uma Reordenacao, com origem, destino e caminho nos
+    // números originais. Retorna o caminho (vazio se não houver); 'ws' fica com os números novos
+    public int[] menorCaminho(Reordenacao r, int origem, int destino, EspacoDeBusca ws) {
+        buscar(r.grafo(), r.novo(origem), r.novo(destino), ws);
+        return r.paraAntigos(ws.caminhoAte(r.novo(destino)));
+    }
+
+    // Árvore inteira sobre o grafo renumerado: distância da origem até cada vértice, indexada pelo
+    // número original (EspacoDeBusca.INFINITO se não alcançado)
+    public int[] distancias(Reordenacao r, int origem, EspacoDeBusca ws) {
+        buscar(r.grafo(), r.novo(origem), -1, ws);
+        int[] porNovo = new int[r.grafo().quantidadeVertices()];
+        for (int v = 0; v < porNovo.length; v++) porNovo[v] = ws.distancia(v);
+        return r.porNumeroOriginal(porNovo);
+    }
+
+    // Isócrona: todos os vértices alcançáveis a partir da origem com custo até 'raio', com as distâncias.
+    // Vértices além do raio nunca entram no heap, então a busca só toca a vizinhança da origem
+    // (em vez de rodar o Dijkstra no grafo inteiro e filtrar depois)
+    public Isocrona executarAteRaio(Grafo g, int origem, int raio, EspacoDeBusca ws) {
+        if (raio < 0) throw new IllegalArgumentException("Raio negativo: " + raio);
+        var resultado = new Isocrona(origem, raio);
+        buscar(g, origem, -1, null, 0, raio, false, ws, resultado);
+        return resultado;
+    }
+
+    // Atalho do modo ponto a ponto que cria um EspacoDeBusca só para esta consulta.
+    // Para muitas consultas, prefira reutilizar o mesmo EspacoDeBusca
+    public int executar(Grafo g, int origem, int destino) {
+        return executar(g, origem, destino, new EspacoDeBusca(g.quantidadeVertices()));
+    }
+
+    // Laço principal do Dijkstra sobre o EspacoDeBusca. Se 'destino' for -1 e 'alvos' for nulo, calcula a árvore inteira.
+    // Com 'alvos', para quando 'quantidadeAlvos' vértices marcados tiverem saído do heap.
+    // Os vértices entram na fila só quando são descobertos (não há heap com todos os V vértices),
+    // então uma consulta local só toca os vértices próximos da origem.
+    // Caminhos mais caros que 'raio' são descartados (EspacoDeBusca.INFINITO = sem limite).
+    // Se 'reverso' for verdadeiro, percorre as arestas de trás para frente (g.antecessores).
+    // Se 'definidos' não for nulo, recebe cada vértice na ordem em que sua distância fica definitiva
+    private void buscar(Grafo g, int s, int destino, boolean[] alvos, int quantidadeAlvos, int raio, boolean reverso, EspacoDeBusca ws, Isocrona definidos) {
+        ws.reiniciar(); // Todas as distâncias passam a valer infinito, em O(1)
+        ws.atualizar(s, 0, -1); // Origem recebe distância zero e não tem predecessor
+
+        FilaDePrioridade q = ws.fila();
+        q.insert(s, 0);
+        int faltam = quantidadeAlvos;
+
+        while (!q.isEmpty()) {
+            int u = q.extractMin(); // Vértice com menor distância estimada
+            if (u == destino) return; // Distância do destino já é definitiva: parada antecipada
+            if (alvos != null && alvos[u] && --faltam == 0) return; // Último alvo definido
+            int du = ws.distancia(u);
+            if (definidos != null) definidos.adicionar(u, du);
+
+            for (Grafo.Aresta aresta : reverso ? g.antecessores(u) : g.vizinhos(u)) {
+                int v = aresta.destino;
+                int novaDistancia = du + aresta.peso;
+                if (novaDistancia > raio) continue; // Fora do raio: nem entra no heap
+
+                // Relaxamento da aresta (u, v)
+                if (novaDistancia < ws.distancia(v)) {
+                    ws.atualizar(v, novaDistancia, u);
+                    if (q.contains(v)) {
+                        q.decreaseKey(v, novaDistancia);
+                    } else {
+                        q.insert(v, novaDistancia); // Primeira vez que 'v' é descoberto
+                    }
+                }
+            }
+        }
+    }
+
+    // Laço do Dijkstra sobre o GrafoCompacto: as arestas de u são as posições g.inicio(u) .. g.fim(u)-1
+    private void buscar(GrafoCompacto g, int s, int destino, EspacoDeBusca ws) {
+        ws.reiniciar();
+        ws.atualizar(s, 0, -1);
+
+        FilaDePrioridade q = ws.fila();
+        q.insert(s, 0);
+
+        while (!q.isEmpty()) {
+            int u = q.extractMin();
+            if (u == destino) return;
+            int du = ws.distancia(u);
+
+            for (int e = g.inicio(u), fim = g.fim(u); e < fim; e++) {
+                int v = g.destino(e);
+                int novaDistancia = du + g.peso(e);
+
+                if (novaDistancia < ws.distancia(v)) {
+                    ws.atualizar(v, novaDistancia, u);
+                    if (q.contains(v)) {
+                        q.decreaseKey(v, novaDistancia);
+                    } else {
+                        q.insert(v, novaDistancia);
+                    }
+                }
+            }
+        }
+    }
+
     // Aplica o relaxamento entre dois vértices: se o caminho via 'u' até 'v' for melhor, atualiza 'v'
     private boolean relaxar(Grafo.Vertice u, Grafo.Vertice v, int w) {
         // Verifica se a distância de 'v' pode ser melhorada passando por 'u'
@@ -125,13 +336,9 @@ public class Dijkstra {
     }
 
     // Método auxiliar para buscar o índice de um vértice pelo seu nome
+    // Usa o índice de nomes do grafo (O(1)) em vez de percorrer todos os vértices
     private static int buscarIndicePorNome(Grafo g, String nome) {
-    for (Grafo.Vertice v : g.getVertices()) {
-        if (v.nome.equalsIgnoreCase(nome)) {
-            return v.indice;
-        }
-    }
-        return -1; // Retorna -1 se não encontrar
+        return g.indiceDoNome(nome); // Retorna -1 se não encontrar
     }
 
     // Método principal teste do algoritmo
@@ -190,12 +397,30 @@ public class Dijkstra {
         }
 
         // Exibe especificamente o caminho e o custo até a região de destino
+        // usando o modo ponto a ponto, que para assim que o destino é definido
         System.out.println("\nResumo:");
-        Grafo.Vertice destinoVertice = g.getVertices()[indiceDestino];
-        if (destinoVertice.distancia == Integer.MAX_VALUE) {
+        var ws = new EspacoDeBusca(g.quantidadeVertices());
+        int custo = dijkstra.executar(g, indiceOrigem, indiceDestino, ws);
+        if (custo == EspacoDeBusca.INFINITO) {
             System.out.println("Não existe caminho de " + nomeOrigem + " até " + nomeDestino);
         } else {
-            System.out.println("Menor custo de " + nomeOrigem + " até " + nomeDestino + ": " + destinoVertice.distancia);
+            System.out.println("Menor custo de " + nomeOrigem + " até " + nomeDestino + ": " + custo);
+
+            // Imprime o caminho encontrado, vértice por vértice
+            StringBuilder caminho = new StringBuilder();
+            for (int v : ws.caminhoAte(indiceDestino)) {
+                if (caminho.length() > 0) caminho.append(" -> ");
+                caminho.append(g.getVertices()[v].nome);
+            }
+            System.out.println("Caminho: " + caminho);
+
+            // Mesma consulta no grafo renumerado: o caminho volta com os números (e nomes) originais
+            StringBuilder reordenado = new StringBuilder();
+            for (int v : dijkstra.menorCaminho(g.paraCSRReordenado(), indiceOrigem, indiceDestino, ws)) {
+                if (reordenado.length() > 0) reordenado.append(" -> ");
+                reordenado.append(g.getVertices()[v].nome);
+            }
+            System.out.println("Caminho (grafo renumerado): " + reordenado);
         }
     }
 }
\ No newline at end of file
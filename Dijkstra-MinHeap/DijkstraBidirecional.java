@@ -0,0 +1,111 @@
+import java.util.List;
+
+// Dijkstra bidirecional para consultas de origem -> destino.
+// Roda duas buscas ao mesmo tempo: uma para frente a partir da origem (g.vizinhos) e outra
+// para trás a partir do destino (g.antecessores). Cada busca só precisa chegar até "o meio"
+// do caminho, então o total de vértices examinados costuma cair para perto da metade.
+// Cada instância guarda seus próprios espaços de busca: use uma instância por thread.
+public class DijkstraBidirecional {
+    private final EspacoDeBusca frente; // Distâncias a partir da origem
+    private final EspacoDeBusca tras;   // Distâncias até o destino (busca no grafo reverso)
+
+    // Aresta onde as duas buscas se encontraram no melhor caminho da última consulta:
+    // origem ~> encontroFrente -> encontroTras ~> destino
+    private int encontroFrente = -1;
+    private int encontroTras = -1;
+    private int verticesExaminados; // Vértices retirados das duas filas na última consulta
+
+    // Construtor: recebe a quantidade de vértices do grafo que será consultado
+    public DijkstraBidirecional(int quantidadeVertices) {
+        frente = new EspacoDeBusca(quantidadeVertices);
+        tras = new EspacoDeBusca(quantidadeVertices);
+    }
+
+    // Retorna a menor distância da origem ao destino (EspacoDeBusca.INFINITO se não houver caminho)
+    public int executar(Grafo g, int origem, int destino) {
+        frente.reiniciar();
+        tras.reiniciar();
+        verticesExaminados = 0;
+
+        frente.atualizar(origem, 0, -1);
+        tras.atualizar(destino, 0, -1);
+        frente.fila().insert(origem, 0);
+        tras.fila().insert(destino, 0);
+
+        // 'melhor' é o custo do melhor caminho completo já visto (mu na literatura)
+        long melhor = origem == destino ? 0 : EspacoDeBusca.INFINITO;
+        encontroFrente = origem;
+        encontroTras = origem == destino ? -1 : destino;
+
+        FilaDePrioridade qf = frente.fila();
+        FilaDePrioridade qt = tras.fila();
+
+        while (!qf.isEmpty() && !qt.isEmpty()) {
+            // Regra de parada: nenhum caminho ainda não visto pode ser menor que topo(frente) + topo(trás)
+            if (qf.chaveMinima() + qt.chaveMinima() >= melhor) break;
+
+            // Alterna entre as buscas expandindo sempre a que tem a fronteira menor
+            boolean paraFrente = qf.size() <= qt.size();
+            EspacoDeBusca atual = paraFrente ? frente : tras;
+            EspacoDeBusca outra = paraFrente ? tras : frente;
+
+            int u = atual.fila().extractMin();
+            int du = atual.distancia(u);
+            verticesExaminados++;
+
+            List<Grafo.Aresta> arestas = paraFrente ? g.vizinhos(u) : g.antecessores(u);
+            for (Grafo.Aresta aresta : arestas) {
+                int v = aresta.destino;
+                int novaDistancia = du + aresta.peso;
+
+                // Relaxamento da aresta na direção desta busca
+                if (novaDistancia < atual.distancia(v)) {
+                    atual.atualizar(v, novaDistancia, u);
+                    if (atual.fila().contains(v)) {
+                        atual.fila().decreaseKey(v, novaDistancia);
+                    } else {
+                        atual.fila().insert(v, novaDistancia);
+                    }
+                }
+
+                // Se a outra busca já alcançou 'v', temos um caminho completo passando pela aresta (u, v)
+                if (outra.alcancado(v)) {
+                    long custo = (long) novaDistancia + outra.distancia(v);
+                    if (custo < melhor) {
+                        melhor = custo;
+                        encontroFrente = paraFrente ? u : v;
+                        encontroTras = paraFrente ? v : u;
+                    }
+                }
+            }
+        }
+
+        if (melhor >= EspacoDeBusca.INFINITO) {
+            encontroFrente = -1;
+            encontroTras = -1;
+            return EspacoDeBusca.INFINITO;
+        }
+        return (int) melhor;
+    }
+
+    // Reconstrói o caminho da última consulta (vetor vazio se não houve caminho)
+    public int[] caminho() {
+        if (encontroFrente == -1) return new int[0];
+
+        int[] inicio = frente.caminhoAte(encontroFrente); // origem ~> encontroFrente
+
+        int tamanhoFim = 0; // encontroTras ~> destino, seguindo os predecessores da busca reversa
+        for (int v = encontroTras; v != -1; v = tras.predecessor(v)) tamanhoFim++;
+
+        int[] caminho = new int[inicio.length + tamanhoFim];
+        System.arraycopy(inicio, 0, caminho, 0, inicio.length);
+        int i = inicio.length;
+        for (int v = encontroTras; v != -1; v = tras.predecessor(v)) caminho[i++] = v;
+        return caminho;
+    }
+
+    // Quantidade de vértices examinados (retirados das filas) na última consulta
+    public int verticesExaminados() {
+        return verticesExaminados;
+    }
+}
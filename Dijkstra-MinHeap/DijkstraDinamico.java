@@ -0,0 +1,144 @@
+import java.util.Random;
+
+// Caminhos mínimos a partir de uma origem fixa, mantidos enquanto o grafo recebe novas arestas.
+// Em vez de rodar o Dijkstra inteiro de novo a cada adicionarAresta, guarda a última árvore de
+// caminhos mínimos e conserta só a parte afetada: se a nova aresta (u -> v) encurta o caminho até v,
+// v entra no heap com a nova distância e o Dijkstra continua a partir dele, parando quando nenhum
+// vizinho melhora. O custo de cada atualização é proporcional aos vértices que mudaram de distância.
+// Uma aresta "mais barata" entre u e v é só uma nova aresta paralela com peso menor, então
+// o mesmo conserto vale para inserções e para reduções de peso.
+// (Aumentar peso ou remover arestas não é suportado pelo Grafo, então não é tratado aqui.)
+public class DijkstraDinamico {
+    private final Grafo g;
+    private final int origem;
+    private final EspacoDeBusca ws; // Distâncias e predecessores atuais (uma única época, sempre válida)
+    private long versaoConhecida;   // Versão do grafo que as distâncias refletem
+    private int verticesAlterados;  // Quantos vértices mudaram na última atualização
+
+    // Construtor: calcula a árvore de caminhos mínimos inicial a partir da origem
+    public DijkstraDinamico(Grafo g, int origem) {
+        this.g = g;
+        this.origem = origem;
+        this.ws = new EspacoDeBusca(g.quantidadeVertices());
+        recalcular();
+    }
+
+    // Roda o Dijkstra completo de novo (usado no início e quando o grafo mudou por fora desta classe)
+    public void recalcular() {
+        new Dijkstra().executar(g, origem, ws);
+        versaoConhecida = g.versao();
+        verticesAlterados = g.quantidadeVertices();
+    }
+
+    // Adiciona a aresta ao grafo e conserta as distâncias afetadas por ela.
+    // Retorna quantos vértices tiveram a distância reduzida.
+    public int adicionarAresta(int u, int v, int peso) {
+        // Se alguém adicionou arestas direto no grafo, não sabemos quais: recalcula tudo
+        if (g.versao() != versaoConhecida) recalcular();
+
+        g.adicionarAresta(u, v, peso);
+        versaoConhecida = g.versao();
+        verticesAlterados = reparar(u, v, peso);
+        return verticesAlterados;
+    }
+
+    // Conserta a árvore depois da nova aresta u -> v (Dijkstra semeado só com v)
+    private int reparar(int u, int v, int peso) {
+        if (!ws.alcancado(u)) return 0; // Origem da aresta inalcançável: nada muda
+
+        long novaDistancia = (long) ws.distancia(u) + peso;
+        if (novaDistancia >= ws.distancia(v)) return 0; // A aresta não encurta nenhum caminho
+
+        FilaDePrioridade q = ws.fila();
+        ws.atualizar(v, (int) novaDistancia, u);
+        q.insert(v, novaDistancia);
+        int alterados = 1;
+
+        while (!q.isEmpty()) {
+            int x = q.extractMin();
+            int dx = ws.distancia(x);
+
+            for (Grafo.Aresta aresta : g.vizinhos(x)) {
+                int y = aresta.destino;
+                long nova = (long) dx + aresta.peso;
+                if (nova >= ws.distancia(y)) continue;
+
+                // y melhorou: atualiza e propaga a partir dele
+                ws.atualizar(y, (int) nova, x);
+                if (q.contains(y)) {
+                    q.decreaseKey(y, nova);
+                } else {
+                    q.insert(y, nova);
+                    alterados++;
+                }
+            }
+        }
+        return alterados;
+    }
+
+    // Menor distância atual da origem até v (EspacoDeBusca.INFINITO se não alcançável)
+    public int distancia(int v) {
+        sincronizar();
+        return ws.distancia(v);
+    }
+
+    // Caminho mínimo atual da origem até o destino (vetor vazio se não alcançável)
+    public int[] caminhoAte(int destino) {
+        sincronizar();
+        return ws.caminhoAte(destino);
+    }
+
+    // Quantidade de vértices que mudaram de distância na última atualização
+    public int verticesAlterados() {
+        return verticesAlterados;
+    }
+
+    public int origem() {
+        return origem;
+    }
+
+    // Garante que as distâncias refletem o grafo atual antes de responder
+    private void sincronizar() {
+        if (g.versao() != versaoConhecida) recalcular();
+    }
+
+    // Compara o conserto incremental com o Dijkstra completo a cada nova aresta
+    // Uso: java DijkstraDinamico [vertices] [arestasPorVertice] [novasArestas]
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        int grau = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        int novas = args.length > 2 ? Integer.parseInt(args[2]) : 1_000;
+
+        var rnd = new Random(42);
+        String[] nomes = new String[n];
+        for (int i = 0; i < n; i++) nomes[i] = "v" + i;
+        Grafo g = new Grafo(nomes);
+        for (int u = 0; u < n; u++) {
+            for (int i = 0; i < grau; i++) g.adicionarAresta(u, rnd.nextInt(n), 1 + rnd.nextInt(100));
+        }
+
+        var dinamico = new DijkstraDinamico(g, 0);
+        var ws = new EspacoDeBusca(n);
+        var dijkstra = new Dijkstra();
+        long tempoIncremental = 0, tempoCompleto = 0, alterados = 0;
+
+        for (int i = 0; i < novas; i++) {
+            int u = rnd.nextInt(n), v = rnd.nextInt(n), peso = 1 + rnd.nextInt(100);
+
+            long inicio = System.nanoTime();
+            alterados += dinamico.adicionarAresta(u, v, peso);
+            long meio = System.nanoTime();
+            dijkstra.executar(g, 0, ws);
+            long fim = System.nanoTime();
+            tempoIncremental += meio - inicio;
+            tempoCompleto += fim - meio;
+
+            for (int x = 0; x < n; x++) {
+                if (dinamico.distancia(x) != ws.distancia(x)) throw new IllegalStateException("Distância diferente no vértice " + x);
+            }
+        }
+
+        System.out.printf("%d arestas novas: incremental %.1f ms, Dijkstra completo %.1f ms, %.1f vértices alterados por aresta\n",
+            novas, tempoIncremental / 1e6, tempoCompleto / 1e6, (double) alterados / novas);
+    }
+}
@@ -0,0 +1,86 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+// Executa o Dijkstra a partir de muitas origens ao mesmo tempo, no mesmo grafo.
+// As origens são distribuídas entre um número limitado de threads; cada thread reaproveita o seu
+// EspacoDeBusca de uma origem para a outra, então o grafo compartilhado nunca é alterado
+// (ao contrário de chamar new Dijkstra().executar(g, s) em paralelo, que escreve nos Vertice).
+// Cada resultado é entregue assim que a sua origem termina, sem esperar pelas outras.
+public class DijkstraEmLote implements AutoCloseable {
+    private final ExecutorService executor;
+    private final boolean executorProprio; // Se fomos nós que criamos o executor, fechamos em close()
+
+    // Espaço de busca de cada thread do executor, reaproveitado entre as origens
+    private final ThreadLocal<EspacoDeBusca> espacos = new ThreadLocal<>();
+
+    // Construtor: cria um pool com a quantidade de threads informada (ex.: número de núcleos)
+    public DijkstraEmLote(int threads) {
+        this.executor = Executors.newFixedThreadPool(threads);
+        this.executorProprio = true;
+    }
+
+    // Construtor que usa um executor já existente (que continua sendo de quem o criou)
+    public DijkstraEmLote(ExecutorService executor) {
+        this.executor = executor;
+        this.executorProprio = false;
+    }
+
+    // Calcula a árvore de caminhos mínimos de cada origem e chama 'aoTerminar' para cada uma,
+    // na ordem em que forem ficando prontas. 'aoTerminar' é chamado pelas threads do executor,
+    // então precisa ser seguro para uso concorrente. O método só retorna quando todas terminarem.
+    public void executar(Grafo g, int[] origens, Consumer<ArvoreDeCaminhos> aoTerminar) {
+        paraCadaOrigem(g.quantidadeVertices(), origens.length, (i, ws) -> {
+            new Dijkstra().executar(g, origens[i], ws);
+            aoTerminar.accept(ArvoreDeCaminhos.copiar(origens[i], ws));
+        });
+    }
+
+    // Trabalho de uma origem: recebe a posição da origem e o EspacoDeBusca da thread que a executa
+    interface TarefaPorOrigem {
+        void executar(int indice, EspacoDeBusca ws);
+    }
+
+    // Executa 'trabalho' para as posições 0 .. quantidade-1 nas threads do executor, cada uma com o
+    // EspacoDeBusca da sua thread (para grafos de n vértices). Usado também por MatrizDeDistancias,
+    // que faz uma busca diferente por origem. Só retorna quando todas terminarem
+    void paraCadaOrigem(int n, int quantidade, TarefaPorOrigem trabalho) {
+        List<Future<?>> tarefas = new ArrayList<>();
+
+        for (int i = 0; i < quantidade; i++) {
+            int indice = i;
+            tarefas.add(executor.submit(() -> trabalho.executar(indice, espacoDaThread(n))));
+        }
+
+        // Espera todas as origens; se alguma falhou, repassa o erro
+        try {
+            for (Future<?> tarefa : tarefas) tarefa.get();
+        } catch (InterruptedException e) {
+            for (Future<?> tarefa : tarefas) tarefa.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Execução em lote interrompida", e);
+        } catch (ExecutionException e) {
+            for (Future<?> tarefa : tarefas) tarefa.cancel(true);
+            throw new RuntimeException("Falha ao calcular uma das origens", e.getCause());
+        }
+    }
+
+    // Retorna o EspacoDeBusca da thread atual, criando (ou recriando, se o grafo mudou de tamanho)
+    private EspacoDeBusca espacoDaThread(int n) {
+        EspacoDeBusca ws = espacos.get();
+        if (ws == null || ws.capacidade() != n) {
+            ws = new EspacoDeBusca(n);
+            espacos.set(ws);
+        }
+        return ws;
+    }
+
+    @Override
+    public void close() {
+        if (executorProprio) executor.shutdown();
+    }
+}
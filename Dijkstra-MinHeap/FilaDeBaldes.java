@@ -0,0 +1,111 @@
+// Fila de baldes de Dial para o Dijkstra com pesos inteiros pequenos (0 .. maiorPeso).
+// No Dijkstra, toda chave na fila está entre a menor chave atual e (menor chave + maiorPeso).
+// Por isso bastam maiorPeso + 1 baldes usados de forma circular: o balde (chave % quantidade)
+// guarda exatamente os vértices com aquela chave. Inserir e diminuir chave custam O(1) e
+// extrair o mínimo custa no máximo uma volta pelos baldes, sem nenhuma comparação entre chaves.
+// Os baldes são listas ligadas dentro de vetores primitivos, então nenhuma operação aloca memória.
+public class FilaDeBaldes implements FilaDePrioridade {
+    private final int[] primeiro; // primeiro[b] = primeiro vértice do balde b (-1 = balde vazio)
+    private final int[] proximo;  // proximo[v] = próximo vértice no mesmo balde de v (-1 = fim)
+    private final int[] anterior; // anterior[v] = vértice anterior no mesmo balde de v (-1 = início)
+    private final int[] balde;    // balde[v] = balde em que v está (-1 = não está na fila)
+    private final long[] chaves;  // chaves[v] = chave atual de v
+    private long atual;           // Menor chave possível na fila (nenhuma chave é menor que esta)
+    private int tamanho;
+
+    // Construtor: recebe a quantidade de vértices e o maior peso de aresta do grafo
+    public FilaDeBaldes(int capacidade, int maiorPeso) {
+        primeiro = new int[maiorPeso + 1];
+        proximo = new int[capacidade];
+        anterior = new int[capacidade];
+        balde = new int[capacidade];
+        chaves = new long[capacidade];
+        java.util.Arrays.fill(primeiro, -1);
+        java.util.Arrays.fill(balde, -1);
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean contains(int v) {
+        return balde[v] != -1;
+    }
+
+    public void insert(int v, long chave) {
+        if (balde[v] != -1) throw new IllegalStateException("Vértice " + v + " já está na fila");
+        // Fila vazia com chave fora do intervalo: começo de outra consulta, a chave vira a referência
+        if (tamanho == 0 && (chave < atual || chave - atual >= primeiro.length)) atual = chave;
+        verificarIntervalo(chave);
+        chaves[v] = chave;
+        ligar(v);
+        tamanho++;
+    }
+
+    public void decreaseKey(int v, long chave) {
+        if (chave > chaves[v]) throw new IllegalArgumentException("Nova chave maior que a atual");
+        verificarIntervalo(chave);
+        desligar(v);
+        chaves[v] = chave;
+        ligar(v);
+    }
+
+    public int extractMin() {
+        if (tamanho == 0) throw new RuntimeException("Fila vazia");
+        avancar();
+        int v = primeiro[(int) (atual % primeiro.length)];
+        desligar(v);
+        balde[v] = -1;
+        tamanho--;
+        return v;
+    }
+
+    public long chaveMinima() {
+        if (tamanho == 0) throw new RuntimeException("Fila vazia");
+        avancar();
+        return atual;
+    }
+
+    // Esvazia a fila passando por todos os baldes (O(maiorPeso + tamanho))
+    public void limpar() {
+        for (int b = 0; b < primeiro.length; b++) {
+            for (int v = primeiro[b]; v != -1; v = proximo[v]) balde[v] = -1;
+            primeiro[b] = -1;
+        }
+        tamanho = 0;
+    }
+
+    // Anda com 'atual' até o primeiro balde não vazio (no máximo uma volta)
+    private void avancar() {
+        while (primeiro[(int) (atual % primeiro.length)] == -1) atual++;
+    }
+
+    // Só é possível guardar chaves entre 'atual' e 'atual + maiorPeso'
+    private void verificarIntervalo(long chave) {
+        if (chave < atual || chave - atual >= primeiro.length) {
+            throw new IllegalArgumentException("Chave " + chave + " fora do intervalo da fila de baldes ["
+                + atual + ", " + (atual + primeiro.length - 1) + "]");
+        }
+    }
+
+    // Coloca v no início da lista do balde da sua chave
+    private void ligar(int v) {
+        int b = (int) (chaves[v] % primeiro.length);
+        balde[v] = b;
+        anterior[v] = -1;
+        proximo[v] = primeiro[b];
+        if (primeiro[b] != -1) anterior[primeiro[b]] = v;
+        primeiro[b] = v;
+    }
+
+    // Retira v da lista do seu balde
+    private void desligar(int v) {
+        if (anterior[v] != -1) proximo[anterior[v]] = proximo[v];
+        else primeiro[balde[v]] = proximo[v];
+        if (proximo[v] != -1) anterior[proximo[v]] = anterior[v];
+    }
+}
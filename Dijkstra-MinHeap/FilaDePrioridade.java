@@ -0,0 +1,32 @@
+// Fila de prioridade mínima indexada pelo número do vértice (0 .. capacidade-1),
+// usada pelo Dijkstra e pelas outras buscas através do EspacoDeBusca.
+// Implementações: MinHeapIndexado (heap binário, serve para qualquer chave),
+// HeapDAria (heap 4-ário/8-ário), HeapPareamento (decreaseKey em O(1) amortizado),
+// FilaDeBaldes (Dial, pesos inteiros pequenos) e HeapRadix (chaves monótonas de até 64 bits).
+// A fila é escolhida por consulta ao criar o EspacoDeBusca: new EspacoDeBusca(n, new HeapDAria(n, 4)).
+public interface FilaDePrioridade {
+
+    // Verifica se a fila está vazia
+    boolean isEmpty();
+
+    // Quantidade de vértices na fila
+    int size();
+
+    // Verifica se um vértice está presente na fila
+    boolean contains(int v);
+
+    // Insere o vértice v com a chave informada
+    void insert(int v, long chave);
+
+    // Diminui a chave de um vértice que já está na fila
+    void decreaseKey(int v, long chave);
+
+    // Remove e retorna o vértice com a menor chave
+    int extractMin();
+
+    // Retorna a menor chave sem remover o vértice
+    long chaveMinima();
+
+    // Esvazia a fila para ser reutilizada em outra consulta
+    void limpar();
+}
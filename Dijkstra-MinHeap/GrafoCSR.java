@@ -0,0 +1,181 @@
+import java.util.Arrays;
+
+// Grafo imutável no formato CSR (Compressed Sparse Row, "linha esparsa comprimida").
+// Em vez de uma lista (e um objeto) por aresta, todas as arestas ficam em vetores primitivos:
+//   inicio[u] .. inicio[u+1]-1 são as posições das arestas que saem de u;
+//   destinos[e] é o vértice de chegada da aresta e, e pesos[e] o seu peso.
+// Cada aresta ocupa 8 bytes (4 sem pesos), contra dezenas de bytes em List<Aresta> ou LinkedList<Integer>,
+// e os vizinhos de um vértice ficam lado a lado na memória, o que ajuda o cache do processador.
+// O grafo é montado pelo Construtor (mesmas chamadas de adicionarAresta dos outros grafos) e depois
+// só é lido, então pode ser compartilhado entre threads sem sincronização.
+public final class GrafoCSR implements GrafoCompacto {
+    private final int[] inicio;   // inicio[u] = posição da primeira aresta de u (tamanho n + 1)
+    private final int[] destinos; // destinos[e] = vértice de chegada da aresta e
+    private final int[] pesos;    // pesos[e] = peso da aresta e (null se o grafo não tem pesos: todos valem 1)
+
+    GrafoCSR(int[] inicio, int[] destinos, int[] pesos) {
+        this.inicio = inicio;
+        this.destinos = destinos;
+        this.pesos = pesos;
+    }
+
+    // Quantidade de vértices do grafo
+    @Override
+    public int quantidadeVertices() {
+        return inicio.length - 1;
+    }
+
+    // Quantidade de arestas (uma aresta não direcionada conta duas vezes: ida e volta)
+    @Override
+    public int quantidadeArestas() {
+        return destinos.length;
+    }
+
+    // Posição da primeira aresta que sai de u
+    @Override
+    public int inicio(int u) {
+        return inicio[u];
+    }
+
+    // Posição logo depois da última aresta que sai de u
+    @Override
+    public int fim(int u) {
+        return inicio[u + 1];
+    }
+
+    // Quantidade de arestas que saem de u
+    @Override
+    public int grau(int u) {
+        return inicio[u + 1] - inicio[u];
+    }
+
+    // Vértice de chegada da aresta e
+    @Override
+    public int destino(int e) {
+        return destinos[e];
+    }
+
+    // Peso da aresta e (1 se o grafo não tem pesos)
+    @Override
+    public int peso(int e) {
+        return pesos == null ? 1 : pesos[e];
+    }
+
+    // Indica se as arestas têm peso próprio
+    @Override
+    public boolean temPesos() {
+        return pesos != null;
+    }
+
+    // Memória ocupada pelos vetores do grafo, em bytes (aproximada)
+    public long memoriaEmBytes() {
+        return 4L * inicio.length + 4L * destinos.length + (pesos == null ? 0 : 4L * pesos.length);
+    }
+
+    // Monta um GrafoCSR a partir de chamadas de adicionarAresta.
+    // As arestas são guardadas em vetores primitivos na ordem em que chegam e, em construir(),
+    // são agrupadas por vértice de origem com uma ordenação por contagem (O(V + E)),
+    // preservando a ordem de inserção dentro de cada vértice.
+    public static class Construtor {
+        private final int vertices;
+        private int[] origens;
+        private int[] destinos;
+        private int[] pesos;       // Só é criado quando a primeira aresta com peso aparece
+        private int quantidade = 0;
+
+        // Construtor: recebe a quantidade de vértices
+        public Construtor(int vertices) {
+            this(vertices, 16);
+        }
+
+        // Construtor que já reserva espaço para a quantidade esperada de arestas
+        public Construtor(int vertices, int arestasEsperadas) {
+            if (vertices < 0) throw new IllegalArgumentException("Quantidade de vértices negativa: " + vertices);
+            this.vertices = vertices;
+            int capacidade = Math.max(16, arestasEsperadas);
+            this.origens = new int[capacidade];
+            this.destinos = new int[capacidade];
+        }
+
+        // Adiciona uma aresta direcionada origem -> destino com peso 1
+        public Construtor adicionarAresta(int origem, int destino) {
+            validar(origem, destino);
+            garantirEspaco();
+            origens[quantidade] = origem;
+            destinos[quantidade] = destino;
+            if (pesos != null) pesos[quantidade] = 1;
+            quantidade++;
+            return this;
+        }
+
+        // Adiciona uma aresta direcionada origem -> destino com o peso informado
+        public Construtor adicionarAresta(int origem, int destino, int peso) {
+            validar(origem, destino);
+            garantirEspaco();
+            if (pesos == null && peso != 1) {
+                // Primeira aresta com peso diferente de 1: as anteriores passam a ter peso 1 explícito
+                pesos = new int[origens.length];
+                Arrays.fill(pesos, 0, quantidade, 1);
+            }
+            origens[quantidade] = origem;
+            destinos[quantidade] = destino;
+            if (pesos != null) pesos[quantidade] = peso;
+            quantidade++;
+            return this;
+        }
+
+        // Adiciona uma aresta não direcionada (ida e volta) com peso 1
+        public Construtor adicionarArestaNaoDirecionada(int v1, int v2) {
+            adicionarAresta(v1, v2);
+            return adicionarAresta(v2, v1);
+        }
+
+        // Adiciona uma aresta não direcionada (ida e volta) com o peso informado
+        public Construtor adicionarArestaNaoDirecionada(int v1, int v2, int peso) {
+            adicionarAresta(v1, v2, peso);
+            return adicionarAresta(v2, v1, peso);
+        }
+
+        // Quantidade de arestas adicionadas até agora
+        public int quantidadeArestas() {
+            return quantidade;
+        }
+
+        // Agrupa as arestas por origem e devolve o grafo pronto
+        public GrafoCSR construir() {
+            // 1. Conta as arestas de cada vértice
+            int[] inicio = new int[vertices + 1];
+            for (int i = 0; i < quantidade; i++) inicio[origens[i] + 1]++;
+
+            // 2. Soma de prefixos: inicio[u] passa a ser a posição da primeira aresta de u
+            for (int u = 0; u < vertices; u++) inicio[u + 1] += inicio[u];
+
+            // 3. Coloca cada aresta na próxima posição livre do seu vértice de origem
+            int[] proxima = Arrays.copyOf(inicio, vertices);
+            int[] destinosCSR = new int[quantidade];
+            int[] pesosCSR = pesos == null ? null : new int[quantidade];
+            for (int i = 0; i < quantidade; i++) {
+                int e = proxima[origens[i]]++;
+                destinosCSR[e] = destinos[i];
+                if (pesosCSR != null) pesosCSR[e] = pesos[i];
+            }
+            return new GrafoCSR(inicio, destinosCSR, pesosCSR);
+        }
+
+        private void validar(int origem, int destino) {
+            if (origem < 0 || origem >= vertices || destino < 0 || destino >= vertices) {
+                throw new IndexOutOfBoundsException("Aresta " + origem + " -> " + destino + " fora do grafo de " + vertices + " vértices");
+            }
+        }
+
+        // Cresce os vetores em 50% quando enchem
+        private void garantirEspaco() {
+            if (quantidade < origens.length) return;
+            if (quantidade == Integer.MAX_VALUE - 8) throw new IllegalStateException("Arestas demais para um GrafoCSR");
+            int novaCapacidade = (int) Math.min(Integer.MAX_VALUE - 8L, origens.length + (origens.length >> 1) + 1L);
+            origens = Arrays.copyOf(origens, novaCapacidade);
+            destinos = Arrays.copyOf(destinos, novaCapacidade);
+            if (pesos != null) pesos = Arrays.copyOf(pesos, novaCapacidade);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+// GrafoCompacto lido direto de um arquivo no formato de ArquivoDeGrafo, mapeado na memória.
+// Nada é copiado para o heap do Java: o sistema operacional carrega as páginas do arquivo
+// conforme os algoritmos acessam as arestas, então abrir um grafo de vários GB leva milissegundos
+// e várias execuções (ou processos) compartilham as mesmas páginas em cache.
+// Um mapeamento do Java tem no máximo 2 GB, então cada vetor é dividido em pedaços de 1 GB.
+// É só leitura e pode ser usado por várias threads ao mesmo tempo.
+public final class GrafoMapeado implements GrafoCompacto {
+    private static final int BITS_PEDACO = 28;                  // 2^28 ints = 1 GB por pedaço
+    private static final int MASCARA_PEDACO = (1 << BITS_PEDACO) - 1;
+
+    private final int vertices;
+    private final int arestas;
+    private final IntBuffer[] inicio;   // Pedaços do vetor de posições (n + 1 ints)
+    private final IntBuffer[] destinos; // Pedaços do vetor de destinos (m ints)
+    private final IntBuffer[] pesos;    // Pedaços do vetor de pesos (null se o grafo não tem pesos)
+
+    // Mapeia as regiões do arquivo; o canal pode ser fechado depois, o mapeamento continua válido
+    GrafoMapeado(FileChannel canal, long posicaoInicio, int vertices, int arestas, boolean temPesos) throws IOException {
+        this.vertices = vertices;
+        this.arestas = arestas;
+        long posicaoDestinos = posicaoInicio + 4L * (vertices + 1);
+        long posicaoPesos = posicaoDestinos + 4L * arestas;
+        this.inicio = mapear(canal, posicaoInicio, vertices + 1L);
+        this.destinos = mapear(canal, posicaoDestinos, arestas);
+        this.pesos = temPesos ? mapear(canal, posicaoPesos, arestas) : null;
+    }
+
+    // Mapeia 'quantidade' ints a partir de 'posicao', em pedaços de até 2^BITS_PEDACO ints
+    private static IntBuffer[] mapear(FileChannel canal, long posicao, long quantidade) throws IOException {
+        int pedacos = (int) ((quantidade + MASCARA_PEDACO) >>> BITS_PEDACO);
+        IntBuffer[] resultado = new IntBuffer[Math.max(1, pedacos)];
+        for (int i = 0; i < resultado.length; i++) {
+            long primeiro = (long) i << BITS_PEDACO;
+            long tamanho = Math.min(quantidade - primeiro, 1L << BITS_PEDACO);
+            resultado[i] = canal.map(FileChannel.MapMode.READ_ONLY, posicao + 4 * primeiro, 4 * tamanho)
+                .order(ByteOrder.LITTLE_ENDIAN)
+                .asIntBuffer();
+        }
+        return resultado;
+    }
+
+    private static int ler(IntBuffer[] pedacos, int i) {
+        return pedacos[i >>> BITS_PEDACO].get(i & MASCARA_PEDACO);
+    }
+
+    @Override
+    public int quantidadeVertices() {
+        return vertices;
+    }
+
+    @Override
+    public int quantidadeArestas() {
+        return arestas;
+    }
+
+    @Override
+    public int inicio(int u) {
+        return ler(inicio, u);
+    }
+
+    @Override
+    public int fim(int u) {
+        return ler(inicio, u + 1);
+    }
+
+    @Override
+    public int destino(int e) {
+        return ler(destinos, e);
+    }
+
+    @Override
+    public int peso(int e) {
+        return pesos == null ? 1 : ler(pesos, e);
+    }
+
+    @Override
+    public boolean temPesos() {
+        return pesos != null;
+    }
+}
@@ -0,0 +1,110 @@
+// Heap d-ário implícito (cada nó tem 'aridade' filhos, ex.: 4 ou 8) indexado pelo número do vértice.
+// Comparado ao heap binário, a árvore é mais baixa: decreaseKey (que só sobe) faz menos passos,
+// e os filhos de um nó ficam lado a lado no vetor, aproveitando melhor a cache na descida.
+// É a escolha comum para grafos densos, onde decreaseKey acontece muito mais que extractMin.
+public class HeapDAria implements FilaDePrioridade {
+    private final int aridade;   // Quantidade de filhos por nó
+    private final int[] heap;    // heap[i] = vértice na posição i (começa no índice 0)
+    private final int[] posicao; // posicao[v] = posição de v dentro de heap (-1 = não está no heap)
+    private final long[] chaves; // chaves[v] = prioridade atual do vértice v
+    private int heapSize;
+
+    // Construtor: recebe a quantidade máxima de vértices e a quantidade de filhos por nó
+    public HeapDAria(int capacidade, int aridade) {
+        if (aridade < 2) throw new IllegalArgumentException("A aridade deve ser pelo menos 2");
+        this.aridade = aridade;
+        heap = new int[capacidade];
+        posicao = new int[capacidade];
+        chaves = new long[capacidade];
+        java.util.Arrays.fill(posicao, -1);
+    }
+
+    public boolean isEmpty() {
+        return heapSize == 0;
+    }
+
+    public int size() {
+        return heapSize;
+    }
+
+    public boolean contains(int v) {
+        return posicao[v] != -1;
+    }
+
+    public void insert(int v, long chave) {
+        if (posicao[v] != -1) throw new IllegalStateException("Vértice " + v + " já está no heap");
+        chaves[v] = chave;
+        heap[heapSize] = v;
+        posicao[v] = heapSize;
+        heapSize++;
+        subir(heapSize - 1);
+    }
+
+    public void decreaseKey(int v, long chave) {
+        if (chave > chaves[v]) throw new IllegalArgumentException("Nova chave maior que a atual");
+        chaves[v] = chave;
+        subir(posicao[v]);
+    }
+
+    public int extractMin() {
+        if (heapSize == 0) throw new RuntimeException("Heap vazio");
+        int min = heap[0];
+        heapSize--;
+        posicao[min] = -1;
+        if (heapSize > 0) {
+            heap[0] = heap[heapSize]; // move o último elemento para a raiz e o faz descer
+            posicao[heap[0]] = 0;
+            descer(0);
+        }
+        return min;
+    }
+
+    public long chaveMinima() {
+        if (heapSize == 0) throw new RuntimeException("Heap vazio");
+        return chaves[heap[0]];
+    }
+
+    public void limpar() {
+        for (int i = 0; i < heapSize; i++) posicao[heap[i]] = -1;
+        heapSize = 0;
+    }
+
+    // "Sobe" o elemento da posição i enquanto a chave do pai for maior
+    private void subir(int i) {
+        int v = heap[i];
+        long chave = chaves[v];
+        while (i > 0) {
+            int pai = (i - 1) / aridade;
+            if (chaves[heap[pai]] <= chave) break;
+            heap[i] = heap[pai];
+            posicao[heap[i]] = i;
+            i = pai;
+        }
+        heap[i] = v;
+        posicao[v] = i;
+    }
+
+    // "Desce" o elemento da posição i trocando com o menor dos seus filhos
+    private void descer(int i) {
+        int v = heap[i];
+        long chave = chaves[v];
+        while (true) {
+            int primeiroFilho = aridade * i + 1;
+            if (primeiroFilho >= heapSize) break;
+
+            // Menor entre os filhos (que ficam lado a lado no vetor)
+            int menor = primeiroFilho;
+            int ultimoFilho = Math.min(primeiroFilho + aridade, heapSize);
+            for (int f = primeiroFilho + 1; f < ultimoFilho; f++) {
+                if (chaves[heap[f]] < chaves[heap[menor]]) menor = f;
+            }
+            if (chaves[heap[menor]] >= chave) break;
+
+            heap[i] = heap[menor];
+            posicao[heap[i]] = i;
+            i = menor;
+        }
+        heap[i] = v;
+        posicao[v] = i;
+    }
+}
@@ -0,0 +1,145 @@
+// Heap de pareamento (pairing heap) indexado pelo número do vértice.
+// É uma árvore em que cada nó tem chave menor ou igual à dos filhos, sem formato fixo:
+// - insert e decreaseKey só "ligam" uma árvore à raiz (O(1) amortizado);
+// - extractMin remove a raiz e junta os filhos dela em duas passadas (O(log n) amortizado).
+// Por isso é uma boa opção quando o Dijkstra faz muito mais decreaseKey do que extractMin.
+// Os ponteiros da árvore ficam em vetores primitivos (filho, irmão, anterior), sem alocar nós.
+public class HeapPareamento implements FilaDePrioridade {
+    private final int[] filho;     // filho[v] = primeiro filho de v (-1 = nenhum)
+    private final int[] irmao;     // irmao[v] = próximo irmão de v (-1 = nenhum)
+    private final int[] anterior;  // anterior[v] = irmão anterior de v, ou o pai se v for o primeiro filho (-1 = raiz)
+    private final long[] chaves;   // chaves[v] = prioridade atual do vértice v
+    private final boolean[] presente; // presente[v] = v está no heap
+    private int raiz = -1;
+    private int tamanho;
+
+    // Construtor: recebe a quantidade máxima de vértices
+    public HeapPareamento(int capacidade) {
+        filho = new int[capacidade];
+        irmao = new int[capacidade];
+        anterior = new int[capacidade];
+        chaves = new long[capacidade];
+        presente = new boolean[capacidade];
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean contains(int v) {
+        return presente[v];
+    }
+
+    public void insert(int v, long chave) {
+        if (presente[v]) throw new IllegalStateException("Vértice " + v + " já está no heap");
+        chaves[v] = chave;
+        filho[v] = -1;
+        irmao[v] = -1;
+        anterior[v] = -1;
+        presente[v] = true;
+        raiz = ligar(raiz, v);
+        tamanho++;
+    }
+
+    public void decreaseKey(int v, long chave) {
+        if (chave > chaves[v]) throw new IllegalArgumentException("Nova chave maior que a atual");
+        chaves[v] = chave;
+        if (v == raiz) return;
+
+        // Corta a subárvore de v da árvore e liga de novo à raiz
+        if (filho[anterior[v]] == v) filho[anterior[v]] = irmao[v]; // v era o primeiro filho
+        else irmao[anterior[v]] = irmao[v];
+        if (irmao[v] != -1) anterior[irmao[v]] = anterior[v];
+        irmao[v] = -1;
+        anterior[v] = -1;
+        raiz = ligar(raiz, v);
+    }
+
+    public int extractMin() {
+        if (tamanho == 0) throw new RuntimeException("Heap vazio");
+        int min = raiz;
+        presente[min] = false;
+        tamanho--;
+
+        // Primeira passada (da esquerda para a direita): liga os filhos de dois em dois
+        // e empilha os resultados usando o próprio vetor 'irmao' como pilha
+        int pilha = -1;
+        int c = filho[min];
+        while (c != -1) {
+            int a = c;
+            int b = irmao[a];
+            c = b != -1 ? irmao[b] : -1;
+
+            irmao[a] = -1;
+            anterior[a] = -1;
+            if (b != -1) {
+                irmao[b] = -1;
+                anterior[b] = -1;
+            }
+            int par = ligar(a, b);
+            irmao[par] = pilha;
+            pilha = par;
+        }
+
+        // Segunda passada (da direita para a esquerda): junta tudo em uma única árvore
+        int novaRaiz = -1;
+        while (pilha != -1) {
+            int proximo = irmao[pilha];
+            irmao[pilha] = -1;
+            novaRaiz = ligar(novaRaiz, pilha);
+            pilha = proximo;
+        }
+
+        raiz = novaRaiz;
+        filho[min] = -1;
+        return min;
+    }
+
+    public long chaveMinima() {
+        if (tamanho == 0) throw new RuntimeException("Heap vazio");
+        return chaves[raiz];
+    }
+
+    // Esvazia o heap percorrendo a árvore sem pilha auxiliar (desce pelos filhos, anda pelos irmãos,
+    // e sobe pelo ponteiro 'anterior' quando acaba um nível)
+    public void limpar() {
+        int v = raiz;
+        while (v != -1) {
+            presente[v] = false;
+            if (filho[v] != -1) {
+                v = filho[v];
+                continue;
+            }
+            while (v != -1 && irmao[v] == -1) v = pai(v);
+            if (v != -1) v = irmao[v];
+        }
+        raiz = -1;
+        tamanho = 0;
+    }
+
+    // Pai de v: volta pelos irmãos anteriores até o primeiro filho, cujo 'anterior' é o pai
+    private int pai(int v) {
+        while (anterior[v] != -1 && filho[anterior[v]] != v) v = anterior[v];
+        return anterior[v];
+    }
+
+    // Liga duas árvores (raízes a e b): a de maior chave vira o primeiro filho da outra
+    private int ligar(int a, int b) {
+        if (a == -1) return b;
+        if (b == -1) return a;
+        if (chaves[b] < chaves[a]) {
+            int t = a;
+            a = b;
+            b = t;
+        }
+        irmao[b] = filho[a];
+        if (filho[a] != -1) anterior[filho[a]] = b;
+        anterior[b] = a;
+        filho[a] = b;
+        return a;
+    }
+}
@@ -0,0 +1,125 @@
+// Heap radix: fila de prioridade monótona (as chaves extraídas nunca diminuem), como no Dijkstra.
+// Cada vértice fica no balde dado pelo bit mais alto em que sua chave difere da última chave
+// extraída ('ultima'): balde 0 = chave igual a 'ultima', balde i = diferença no bit i-1.
+// Quando o balde 0 esvazia, o primeiro balde não vazio é redistribuído em relação à sua menor chave,
+// e cada vértice só desce de balde, então o custo amortizado é O(log C) sem comparações de heap.
+// Os baldes são listas ligadas dentro de vetores primitivos, então nenhuma operação aloca memória.
+public class HeapRadix implements FilaDePrioridade {
+    private static final int BALDES = 65; // Balde 0 + um balde por bit de uma chave long
+
+    private final int[] primeiro = new int[BALDES]; // primeiro[b] = primeiro vértice do balde b (-1 = vazio)
+    private final int[] proximo;  // proximo[v] = próximo vértice no mesmo balde de v (-1 = fim)
+    private final int[] anterior; // anterior[v] = vértice anterior no mesmo balde de v (-1 = início)
+    private final int[] balde;    // balde[v] = balde em que v está (-1 = não está na fila)
+    private final long[] chaves;  // chaves[v] = chave atual de v
+    private long ultima;          // Última chave extraída (nenhuma chave na fila é menor que esta)
+    private int tamanho;
+
+    // Construtor: recebe a quantidade máxima de vértices
+    public HeapRadix(int capacidade) {
+        proximo = new int[capacidade];
+        anterior = new int[capacidade];
+        balde = new int[capacidade];
+        chaves = new long[capacidade];
+        java.util.Arrays.fill(primeiro, -1);
+        java.util.Arrays.fill(balde, -1);
+    }
+
+    public boolean isEmpty() {
+        return tamanho == 0;
+    }
+
+    public int size() {
+        return tamanho;
+    }
+
+    public boolean contains(int v) {
+        return balde[v] != -1;
+    }
+
+    public void insert(int v, long chave) {
+        if (balde[v] != -1) throw new IllegalStateException("Vértice " + v + " já está na fila");
+        if (tamanho == 0 && chave < ultima) ultima = chave; // Fila vazia: começo de outra consulta
+        if (chave < ultima) throw new IllegalArgumentException("Chave " + chave + " menor que a última extraída (" + ultima + ")");
+        chaves[v] = chave;
+        ligar(v);
+        tamanho++;
+    }
+
+    public void decreaseKey(int v, long chave) {
+        if (chave > chaves[v]) throw new IllegalArgumentException("Nova chave maior que a atual");
+        if (chave < ultima) throw new IllegalArgumentException("Chave " + chave + " menor que a última extraída (" + ultima + ")");
+        desligar(v);
+        chaves[v] = chave;
+        ligar(v);
+    }
+
+    public int extractMin() {
+        if (tamanho == 0) throw new RuntimeException("Fila vazia");
+        prepararBaldeZero();
+        int v = primeiro[0];
+        desligar(v);
+        balde[v] = -1;
+        tamanho--;
+        return v;
+    }
+
+    public long chaveMinima() {
+        if (tamanho == 0) throw new RuntimeException("Fila vazia");
+        prepararBaldeZero();
+        return ultima;
+    }
+
+    public void limpar() {
+        for (int b = 0; b < BALDES; b++) {
+            for (int v = primeiro[b]; v != -1; v = proximo[v]) balde[v] = -1;
+            primeiro[b] = -1;
+        }
+        tamanho = 0;
+    }
+
+    // Garante que o balde 0 tenha vértices (todos com a menor chave da fila)
+    private void prepararBaldeZero() {
+        if (primeiro[0] != -1) return;
+
+        // Primeiro balde não vazio
+        int b = 1;
+        while (primeiro[b] == -1) b++;
+
+        // A menor chave desse balde vira a nova referência
+        long menor = Long.MAX_VALUE;
+        for (int v = primeiro[b]; v != -1; v = proximo[v]) menor = Math.min(menor, chaves[v]);
+        ultima = menor;
+
+        // Redistribui os vértices do balde: todos vão para baldes menores que b
+        int v = primeiro[b];
+        primeiro[b] = -1;
+        while (v != -1) {
+            int seguinte = proximo[v];
+            ligar(v);
+            v = seguinte;
+        }
+    }
+
+    // Balde da chave em relação à última extraída: 0 se iguais, senão posição do bit mais alto diferente + 1
+    private int baldeDa(long chave) {
+        return 64 - Long.numberOfLeadingZeros(chave ^ ultima);
+    }
+
+    // Coloca v no início da lista do balde da sua chave
+    private void ligar(int v) {
+        int b = baldeDa(chaves[v]);
+        balde[v] = b;
+        anterior[v] = -1;
+        proximo[v] = primeiro[b];
+        if (primeiro[b] != -1) anterior[primeiro[b]] = v;
+        primeiro[b] = v;
+    }
+
+    // Retira v da lista do seu balde
+    private void desligar(int v) {
+        if (anterior[v] != -1) proximo[anterior[v]] = proximo[v];
+        else primeiro[balde[v]] = proximo[v];
+        if (proximo[v] != -1) anterior[proximo[v]] = anterior[v];
+    }
+}
@@ -0,0 +1,11 @@
+// Estimativa usada pela BuscaAEstrela para "puxar" a busca em direção ao destino.
+// Para o resultado ser o caminho mínimo, a estimativa precisa ser admissível:
+// nunca pode ser maior que a distância real de 'v' até 'destino'.
+public interface Heuristica {
+
+    // Limite inferior para a distância do vértice v até o destino
+    int estimativa(int v, int destino);
+
+    // Heurística nula: com ela a BuscaAEstrela se comporta exatamente como o Dijkstra ponto a ponto
+    Heuristica NENHUMA = (v, destino) -> 0;
+}
@@ -0,0 +1,436 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+// Hierarquia de Contração (Contraction Hierarchies) para muitas consultas no mesmo grafo estático.
+//
+// Pré-processamento: os vértices são "contraídos" do menos importante para o mais importante.
+// Ao contrair v, para cada par u -> v -> x cujo caminho mínimo passa obrigatoriamente por v,
+// adiciona-se um atalho u -> x com o mesmo custo (lembrando que ele passa por v).
+// Cada vértice recebe um nível (rank) = ordem em que foi contraído.
+// A contração é feita em rodadas: em cada uma são contraídos juntos os vértices cuja prioridade é menor
+// que a de todos os vizinhos. Dois deles nunca são vizinhos (conjunto independente), então as buscas de
+// testemunha de todos rodam em paralelo, só lendo o grafo restante.
+//
+// Consulta: Dijkstra bidirecional em que a busca da origem só sobe de nível e a busca do destino
+// (no grafo reverso) também só sobe. As duas se encontram no vértice mais "importante" do caminho,
+// e cada uma examina muito poucos vértices. Depois os atalhos são desempacotados nas arestas originais.
+//
+// A hierarquia é imutável depois de construída: várias threads podem consultar ao mesmo tempo,
+// cada uma com a sua Consulta (novaConsulta()).
+public class HierarquiaDeContracao {
+    // Limite de vértices examinados por busca de testemunha; limitar só pode gerar atalhos a mais,
+    // nunca um resultado errado
+    private static final int LIMITE_TESTEMUNHA = 500;
+
+    private final int[] nivel; // nivel[v] = ordem de contração de v (maior = mais importante)
+
+    // Arestas "para cima" (nivel[destino] > nivel[origem]), em formato compacto por vértice de origem:
+    // as arestas de u ficam nas posições inicioSubida[u] .. inicioSubida[u+1]-1
+    private final int[] inicioSubida, destinoSubida, pesoSubida, meioSubida;
+
+    // Arestas "para baixo" (nivel[origem] > nivel[destino]) guardadas no vértice de DESTINO,
+    // para a busca reversa: as arestas que chegam em x ficam em inicioDescida[x] .. inicioDescida[x+1]-1
+    private final int[] inicioDescida, origemDescida, pesoDescida, meioDescida;
+
+    // Aresta do grafo durante o pré-processamento (a mesma instância fica em saida[origem] e entrada[destino])
+    private static class ArestaCH {
+        final int origem, destino;
+        int peso;
+        int meio; // Vértice contraído pelo qual o atalho passa (-1 = aresta original)
+
+        ArestaCH(int origem, int destino, int peso, int meio) {
+            this.origem = origem;
+            this.destino = destino;
+            this.peso = peso;
+            this.meio = meio;
+        }
+    }
+
+    private HierarquiaDeContracao(int n, int[] nivel, List<ArestaCH> arestas) {
+        this.nivel = nivel;
+
+        // Conta quantas arestas sobem e quantas descem por vértice
+        inicioSubida = new int[n + 1];
+        inicioDescida = new int[n + 1];
+        for (ArestaCH a : arestas) {
+            if (nivel[a.destino] > nivel[a.origem]) inicioSubida[a.origem + 1]++;
+            else inicioDescida[a.destino + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            inicioSubida[v + 1] += inicioSubida[v];
+            inicioDescida[v + 1] += inicioDescida[v];
+        }
+
+        destinoSubida = new int[inicioSubida[n]];
+        pesoSubida = new int[inicioSubida[n]];
+        meioSubida = new int[inicioSubida[n]];
+        origemDescida = new int[inicioDescida[n]];
+        pesoDescida = new int[inicioDescida[n]];
+        meioDescida = new int[inicioDescida[n]];
+
+        // Preenche os vetores compactos
+        int[] proximaSubida = inicioSubida.clone();
+        int[] proximaDescida = inicioDescida.clone();
+        for (ArestaCH a : arestas) {
+            if (nivel[a.destino] > nivel[a.origem]) {
+                int i = proximaSubida[a.origem]++;
+                destinoSubida[i] = a.destino;
+                pesoSubida[i] = a.peso;
+                meioSubida[i] = a.meio;
+            } else {
+                int i = proximaDescida[a.destino]++;
+                origemDescida[i] = a.origem;
+                pesoDescida[i] = a.peso;
+                meioDescida[i] = a.meio;
+            }
+        }
+    }
+
+    // Pré-processamento completo a partir do Grafo do Dijkstra. As partes caras (as prioridades, que
+    // simulam uma contração por vértice, e as buscas de testemunha de cada rodada) rodam em paralelo
+    // em todos os núcleos; em sequência ficam só a confirmação dos candidatos e a inclusão dos atalhos.
+    public static HierarquiaDeContracao construir(Grafo g) {
+        int n = g.quantidadeVertices();
+        var p = new PreProcessamento(g);
+
+        // Prioridades iniciais em paralelo: cada thread usa seu próprio EspacoDeBusca
+        ThreadLocal<EspacoDeBusca> espacos = ThreadLocal.withInitial(() -> new EspacoDeBusca(n));
+        long[] prioridade = new long[n];
+        IntStream.range(0, n).parallel().forEach(v -> prioridade[v] = p.prioridade(v, espacos.get()));
+
+        int[] nivel = new int[n];
+        int proximoNivel = 0;
+        int[] restantes = IntStream.range(0, n).toArray();
+        while (restantes.length > 0) {
+            // Candidatos: prioridade mínima entre os vizinhos (o de menor prioridade do grafo sempre entra)
+            int[] candidatos = Arrays.stream(restantes).parallel().filter(v -> p.minimoLocal(v, prioridade)).toArray();
+            for (int v : candidatos) p.removido[v] = true; // As testemunhas não podem passar por eles
+
+            // Atalhos de cada candidato, em paralelo: nesta fase o grafo só é lido.
+            // Ignorar os outros candidatos nas testemunhas só pode gerar atalhos a mais, nunca a menos
+            ListaDeInteiros[] atalhos = new ListaDeInteiros[candidatos.length];
+            long[] atual = new long[candidatos.length];
+            IntStream.range(0, candidatos.length).parallel().forEach(i -> {
+                atalhos[i] = new ListaDeInteiros();
+                atual[i] = p.prioridade(candidatos[i], espacos.get(), atalhos[i]);
+            });
+
+            // Atualização preguiçosa, como em uma fila de prioridade: a prioridade dos vizinhos só é
+            // recalculada quando eles forem candidatos. Se a de v piorou e ele deixou de ser o mínimo
+            // da vizinhança, v fica para uma próxima rodada
+            for (int i = 0; i < candidatos.length; i++) {
+                int v = candidatos[i];
+                prioridade[v] = atual[i];
+                if (p.minimoLocal(v, prioridade)) {
+                    p.contrair(v, atalhos[i].paraVetor());
+                    nivel[v] = proximoNivel++;
+                } else {
+                    p.removido[v] = false;
+                }
+            }
+            restantes = Arrays.stream(restantes).filter(v -> !p.removido[v]).toArray();
+        }
+        return new HierarquiaDeContracao(n, nivel, p.todas);
+    }
+
+    // Estado mutável do pré-processamento: 'todas' guarda cada aresta e atalho criado (vira a hierarquia),
+    // enquanto 'saida' e 'entrada' guardam só o grafo restante (arestas entre vértices ainda não contraídos)
+    private static class PreProcessamento {
+        final List<ArestaCH> todas = new ArrayList<>();
+        final List<List<ArestaCH>> saida = new ArrayList<>();   // Arestas que saem de cada vértice
+        final List<List<ArestaCH>> entrada = new ArrayList<>(); // Arestas que chegam em cada vértice
+        final int[] vizinhosContraidos; // Quantos vizinhos de cada vértice já foram contraídos
+        final boolean[] removido;       // Contraído ou candidato na rodada atual
+
+        PreProcessamento(Grafo g) {
+            int n = g.quantidadeVertices();
+            vizinhosContraidos = new int[n];
+            removido = new boolean[n];
+            for (int v = 0; v < n; v++) {
+                saida.add(new ArrayList<>());
+                entrada.add(new ArrayList<>());
+            }
+            for (int u = 0; u < n; u++) {
+                for (Grafo.Aresta a : g.vizinhos(u)) {
+                    if (a.destino != u) adicionar(u, a.destino, a.peso, -1); // Laços não fazem parte de caminhos mínimos
+                }
+            }
+        }
+
+        // Adiciona a aresta u -> x ou, se já existir, mantém só a de menor peso
+        void adicionar(int u, int x, int peso, int meio) {
+            for (ArestaCH a : saida.get(u)) {
+                if (a.destino == x) {
+                    if (peso < a.peso) {
+                        a.peso = peso;
+                        a.meio = meio;
+                    }
+                    return;
+                }
+            }
+            var a = new ArestaCH(u, x, peso, meio);
+            todas.add(a);
+            saida.get(u).add(a);
+            entrada.get(x).add(a);
+        }
+
+        // Prioridade de contração: atalhos criados - arestas removidas + vizinhos já contraídos
+        // (quanto menor, mais cedo o vértice é contraído)
+        long prioridade(int v, EspacoDeBusca ws) {
+            return prioridade(v, ws, null);
+        }
+
+        // Mesma prioridade, guardando os atalhos em 'saidaAtalhos' (ver atalhos)
+        long prioridade(int v, EspacoDeBusca ws, ListaDeInteiros saidaAtalhos) {
+            int removidas = entrada.get(v).size() + saida.get(v).size();
+            return (long) atalhos(v, ws, saidaAtalhos) - removidas + vizinhosContraidos[v];
+        }
+
+        // Verdadeiro se v vem antes de todos os vizinhos no grafo restante (menor prioridade; no empate, menor número)
+        boolean minimoLocal(int v, long[] prioridade) {
+            for (ArestaCH a : saida.get(v)) {
+                if (antes(a.destino, v, prioridade)) return false;
+            }
+            for (ArestaCH a : entrada.get(v)) {
+                if (antes(a.origem, v, prioridade)) return false;
+            }
+            return true;
+        }
+
+        private static boolean antes(int w, int v, long[] prioridade) {
+            return prioridade[w] < prioridade[v] || (prioridade[w] == prioridade[v] && w < v);
+        }
+
+        // Adiciona os atalhos de v (trincas origem, destino, peso) e tira v do grafo restante
+        // (as arestas continuam em 'todas')
+        void contrair(int v, int[] atalhos) {
+            for (int i = 0; i < atalhos.length; i += 3) adicionar(atalhos[i], atalhos[i + 1], atalhos[i + 2], v);
+
+            for (ArestaCH a : entrada.get(v)) {
+                saida.get(a.origem).remove(a);
+                vizinhosContraidos[a.origem]++;
+            }
+            for (ArestaCH a : saida.get(v)) {
+                entrada.get(a.destino).remove(a);
+                vizinhosContraidos[a.destino]++;
+            }
+            entrada.get(v).clear();
+            saida.get(v).clear();
+        }
+
+        // Conta os atalhos necessários para contrair v; se 'saidaAtalhos' não for nula, guarda cada um
+        // nela como a trinca origem, destino, peso (sem alterar o grafo)
+        int atalhos(int v, EspacoDeBusca ws, ListaDeInteiros saidaAtalhos) {
+            int atalhos = 0;
+            int maiorSaida = 0;
+            for (ArestaCH s : saida.get(v)) maiorSaida = Math.max(maiorSaida, s.peso);
+
+            for (ArestaCH e : entrada.get(v)) {
+                int u = e.origem;
+
+                // Busca de testemunha: caminhos de u que evitam v e não passam de e.peso + maiorSaida
+                buscarTestemunha(u, v, (long) e.peso + maiorSaida, ws);
+
+                for (ArestaCH s : saida.get(v)) {
+                    int x = s.destino;
+                    if (x == u) continue;
+                    int peso = e.peso + s.peso;
+                    if (ws.distancia(x) > peso) { // Não há caminho alternativo: u -> v -> x precisa de atalho
+                        atalhos++;
+                        if (saidaAtalhos != null) {
+                            saidaAtalhos.adicionar(u);
+                            saidaAtalhos.adicionar(x);
+                            saidaAtalhos.adicionar(peso);
+                        }
+                    }
+                }
+            }
+            return atalhos;
+        }
+
+        // Dijkstra limitado a partir de u no grafo restante, ignorando o vértice sendo contraído
+        // e os outros vértices da rodada (os atalhos deles ainda não existem)
+        void buscarTestemunha(int u, int ignorado, long limite, EspacoDeBusca ws) {
+            ws.reiniciar();
+            ws.atualizar(u, 0, -1);
+            FilaDePrioridade q = ws.fila();
+            q.insert(u, 0);
+
+            int examinados = 0;
+            while (!q.isEmpty()) {
+                int x = q.extractMin();
+                int dx = ws.distancia(x);
+                if (dx > limite || ++examinados > LIMITE_TESTEMUNHA) break;
+
+                for (ArestaCH a : saida.get(x)) {
+                    int y = a.destino;
+                    if (y == ignorado || removido[y]) continue;
+                    int nova = dx + a.peso;
+                    if (nova < ws.distancia(y)) {
+                        ws.atualizar(y, nova, x);
+                        if (q.contains(y)) q.decreaseKey(y, nova);
+                        else q.insert(y, nova);
+                    }
+                }
+            }
+        }
+    }
+
+    // Quantidade total de arestas na hierarquia (originais + atalhos)
+    public int quantidadeArestas() {
+        return destinoSubida.length + origemDescida.length;
+    }
+
+    // Cria o estado de consulta de uma thread
+    public Consulta novaConsulta() {
+        return new Consulta();
+    }
+
+    // Estado de consulta (um por thread): duas buscas que só sobem de nível
+    public class Consulta {
+        private final EspacoDeBusca frente = new EspacoDeBusca(nivel.length);
+        private final EspacoDeBusca tras = new EspacoDeBusca(nivel.length);
+        private int encontro = -1; // Vértice de maior nível do melhor caminho da última consulta
+        private int verticesExaminados;
+
+        // Retorna a menor distância da origem ao destino (EspacoDeBusca.INFINITO se não houver caminho)
+        public int distancia(int origem, int destino) {
+            frente.reiniciar();
+            tras.reiniciar();
+            frente.atualizar(origem, 0, -1);
+            tras.atualizar(destino, 0, -1);
+            frente.fila().insert(origem, 0);
+            tras.fila().insert(destino, 0);
+
+            long melhor = EspacoDeBusca.INFINITO;
+            encontro = -1;
+            verticesExaminados = 0;
+            boolean vezDaFrente = true;
+
+            while (!frente.fila().isEmpty() || !tras.fila().isEmpty()) {
+                // Alterna entre as buscas; uma busca termina quando seu topo já não melhora o resultado
+                boolean paraFrente = tras.fila().isEmpty() || (vezDaFrente && !frente.fila().isEmpty());
+                vezDaFrente = !vezDaFrente;
+                EspacoDeBusca atual = paraFrente ? frente : tras;
+                EspacoDeBusca outra = paraFrente ? tras : frente;
+
+                if (atual.fila().chaveMinima() >= melhor) {
+                    atual.fila().limpar();
+                    continue;
+                }
+
+                int u = atual.fila().extractMin();
+                int du = atual.distancia(u);
+                verticesExaminados++;
+
+                if (outra.alcancado(u) && (long) du + outra.distancia(u) < melhor) {
+                    melhor = (long) du + outra.distancia(u);
+                    encontro = u;
+                }
+
+                int inicio = paraFrente ? inicioSubida[u] : inicioDescida[u];
+                int fim = paraFrente ? inicioSubida[u + 1] : inicioDescida[u + 1];
+                for (int i = inicio; i < fim; i++) {
+                    int v = paraFrente ? destinoSubida[i] : origemDescida[i];
+                    int nova = du + (paraFrente ? pesoSubida[i] : pesoDescida[i]);
+                    if (nova < atual.distancia(v)) {
+                        atual.atualizar(v, nova, u);
+                        if (atual.fila().contains(v)) atual.fila().decreaseKey(v, nova);
+                        else atual.fila().insert(v, nova);
+                    }
+                }
+            }
+            return encontro == -1 ? EspacoDeBusca.INFINITO : (int) melhor;
+        }
+
+        // Caminho da última consulta nas arestas originais do grafo (vetor vazio se não houve caminho)
+        public int[] caminho() {
+            if (encontro == -1) return new int[0];
+
+            // Caminho na hierarquia: origem ~> encontro (subindo) e encontro ~> destino (descendo)
+            int[] subida = frente.caminhoAte(encontro);
+            var resultado = new ListaDeInteiros();
+            resultado.adicionar(subida[0]);
+            for (int i = 0; i + 1 < subida.length; i++) desempacotar(subida[i], subida[i + 1], resultado);
+            for (int v = encontro; tras.predecessor(v) != -1; v = tras.predecessor(v)) {
+                desempacotar(v, tras.predecessor(v), resultado);
+            }
+            return resultado.paraVetor();
+        }
+
+        // Quantidade de vértices examinados (retirados das filas) na última consulta
+        public int verticesExaminados() {
+            return verticesExaminados;
+        }
+    }
+
+    // Troca a aresta a -> b da hierarquia pelas arestas originais que ela representa
+    // (adiciona ao resultado todos os vértices depois de 'a', até 'b' inclusive).
+    // Usa uma pilha explícita: cadeias longas de atalhos não estouram a pilha de chamadas
+    private void desempacotar(int a, int b, ListaDeInteiros resultado) {
+        var pilha = new ListaDeInteiros(); // Pares (início, fim) a desempacotar; o do topo vem primeiro no caminho
+        pilha.adicionar(a);
+        pilha.adicionar(b);
+        while (!pilha.vazia()) {
+            int fim = pilha.removerUltimo();
+            int inicio = pilha.removerUltimo();
+            int meio = meioDaAresta(inicio, fim);
+            if (meio == -1) {
+                resultado.adicionar(fim); // Aresta original
+            } else {
+                pilha.adicionar(meio); // Segunda metade, desempacotada depois da primeira
+                pilha.adicionar(fim);
+                pilha.adicionar(inicio);
+                pilha.adicionar(meio);
+            }
+        }
+    }
+
+    // Vértice intermediário da aresta a -> b de menor peso na hierarquia (-1 se for aresta original)
+    private int meioDaAresta(int a, int b) {
+        int melhorPeso = Integer.MAX_VALUE;
+        int meio = -1;
+        if (nivel[b] > nivel[a]) {
+            for (int i = inicioSubida[a]; i < inicioSubida[a + 1]; i++) {
+                if (destinoSubida[i] == b && pesoSubida[i] < melhorPeso) {
+                    melhorPeso = pesoSubida[i];
+                    meio = meioSubida[i];
+                }
+            }
+        } else {
+            for (int i = inicioDescida[b]; i < inicioDescida[b + 1]; i++) {
+                if (origemDescida[i] == a && pesoDescida[i] < melhorPeso) {
+                    melhorPeso = pesoDescida[i];
+                    meio = meioDescida[i];
+                }
+            }
+        }
+        if (melhorPeso == Integer.MAX_VALUE) throw new IllegalStateException("Aresta " + a + " -> " + b + " não existe na hierarquia");
+        return meio;
+    }
+
+    // Vetor de inteiros que cresce conforme necessário (evita List<Integer> e o boxing)
+    private static class ListaDeInteiros {
+        private int[] dados = new int[16];
+        private int tamanho = 0;
+
+        void adicionar(int x) {
+            if (tamanho == dados.length) dados = java.util.Arrays.copyOf(dados, tamanho * 2);
+            dados[tamanho++] = x;
+        }
+
+        boolean vazia() {
+            return tamanho == 0;
+        }
+
+        int removerUltimo() {
+            return dados[--tamanho];
+        }
+
+        int[] paraVetor() {
+            return java.util.Arrays.copyOf(dados, tamanho);
+        }
+    }
+}
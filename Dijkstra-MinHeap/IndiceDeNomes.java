@@ -0,0 +1,91 @@
+import java.util.Arrays;
+
+// Índice dos nomes dos vértices, montado uma única vez junto com o Grafo.
+// - Busca exata sem diferenciar maiúsculas/minúsculas em O(1) esperado: tabela hash de endereçamento
+//   aberto que guarda só o índice do vértice (int[]), sem criar cópias dos nomes.
+// - Autocompletar por prefixo: os índices dos vértices ordenados pelo nome (também sem diferenciar
+//   maiúsculas/minúsculas); os nomes com o mesmo prefixo ficam contíguos e são achados por busca binária.
+// Depois de montado, o índice só é lido, então pode ser consultado por várias threads ao mesmo tempo.
+class IndiceDeNomes {
+    private static final int VAZIO = -1;
+
+    private final Grafo.Vertice[] vertices;
+    private final int[] tabela;    // Tabela hash: índice do vértice ou VAZIO
+    private final int mascara;     // tabela.length - 1 (o tamanho é sempre potência de 2)
+    private final int[] ordenados; // Índices dos vértices em ordem alfabética do nome
+
+    IndiceDeNomes(Grafo.Vertice[] vertices) {
+        this.vertices = vertices;
+
+        // Tabela com pelo menos o dobro de posições que vértices (ocupação máxima de 50%)
+        int tamanho = Integer.highestOneBit(Math.max(2, vertices.length * 2 - 1)) << 1;
+        this.tabela = new int[tamanho];
+        this.mascara = tamanho - 1;
+        Arrays.fill(tabela, VAZIO);
+        for (Grafo.Vertice v : vertices) {
+            int p = hash(v.nome) & mascara;
+            // Se o nome se repetir, vale o primeiro vértice (como na busca linear antiga)
+            while (tabela[p] != VAZIO) {
+                if (vertices[tabela[p]].nome.equalsIgnoreCase(v.nome)) break;
+                p = (p + 1) & mascara;
+            }
+            if (tabela[p] == VAZIO) tabela[p] = v.indice;
+        }
+
+        Integer[] ordem = new Integer[vertices.length];
+        for (int i = 0; i < ordem.length; i++) ordem[i] = i;
+        Arrays.sort(ordem, (a, b) -> String.CASE_INSENSITIVE_ORDER.compare(vertices[a].nome, vertices[b].nome));
+        this.ordenados = new int[ordem.length];
+        for (int i = 0; i < ordem.length; i++) ordenados[i] = ordem[i];
+    }
+
+    // Retorna o índice do vértice com o nome informado (sem diferenciar maiúsculas/minúsculas) ou -1
+    int buscar(String nome) {
+        int p = hash(nome) & mascara;
+        while (tabela[p] != VAZIO) {
+            if (vertices[tabela[p]].nome.equalsIgnoreCase(nome)) return tabela[p];
+            p = (p + 1) & mascara;
+        }
+        return -1;
+    }
+
+    // Retorna até 'limite' índices de vértices cujo nome começa com 'prefixo', em ordem alfabética
+    int[] comPrefixo(String prefixo, int limite) {
+        // Primeira posição cujo nome não vem antes do prefixo
+        int inicio = 0, fim = ordenados.length;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (compararComPrefixo(vertices[ordenados[meio]].nome, prefixo) < 0) inicio = meio + 1;
+            else fim = meio;
+        }
+
+        int quantidade = 0;
+        while (inicio + quantidade < ordenados.length && quantidade < limite
+                && compararComPrefixo(vertices[ordenados[inicio + quantidade]].nome, prefixo) == 0) {
+            quantidade++;
+        }
+        return Arrays.copyOfRange(ordenados, inicio, inicio + quantidade);
+    }
+
+    // Compara só o começo do nome com o prefixo: 0 se o nome começa com o prefixo
+    private static int compararComPrefixo(String nome, String prefixo) {
+        int n = Math.min(nome.length(), prefixo.length());
+        for (int i = 0; i < n; i++) {
+            char a = dobrar(nome.charAt(i));
+            char b = dobrar(prefixo.charAt(i));
+            if (a != b) return a - b;
+        }
+        return nome.length() < prefixo.length() ? -1 : 0;
+    }
+
+    // Hash que ignora maiúsculas/minúsculas (mesma regra de equalsIgnoreCase e CASE_INSENSITIVE_ORDER)
+    private static int hash(String nome) {
+        int h = 0;
+        for (int i = 0; i < nome.length(); i++) h = 31 * h + dobrar(nome.charAt(i));
+        return h ^ (h >>> 16); // Espalha os bits altos, já que a tabela usa só os bits baixos
+    }
+
+    private static char dobrar(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
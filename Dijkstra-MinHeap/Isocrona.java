@@ -0,0 +1,54 @@
+import java.util.Arrays;
+
+// Resultado de uma consulta de raio limitado (Dijkstra.executarAteRaio):
+// os vértices alcançáveis a partir da origem com custo até o raio, em ordem crescente de distância.
+// Só guarda os vértices encontrados, então o tamanho é o da vizinhança, não o do grafo.
+public class Isocrona {
+    public final int origem;
+    public final int raio;
+
+    private int[] vertices = new int[16];
+    private int[] distancias = new int[16];
+    private int tamanho = 0;
+
+    Isocrona(int origem, int raio) {
+        this.origem = origem;
+        this.raio = raio;
+    }
+
+    // Chamado pela busca quando a distância de v fica definitiva
+    void adicionar(int v, int distancia) {
+        if (tamanho == vertices.length) {
+            vertices = Arrays.copyOf(vertices, tamanho * 2);
+            distancias = Arrays.copyOf(distancias, tamanho * 2);
+        }
+        vertices[tamanho] = v;
+        distancias[tamanho] = distancia;
+        tamanho++;
+    }
+
+    // Quantidade de vértices dentro do raio (incluindo a origem)
+    public int tamanho() {
+        return tamanho;
+    }
+
+    // i-ésimo vértice mais próximo da origem (0 = a própria origem)
+    public int vertice(int i) {
+        return vertices[i];
+    }
+
+    // Distância da origem até o i-ésimo vértice
+    public int distancia(int i) {
+        return distancias[i];
+    }
+
+    // Cópia dos vértices encontrados
+    public int[] vertices() {
+        return Arrays.copyOf(vertices, tamanho);
+    }
+
+    // Cópia das distâncias, na mesma ordem de vertices()
+    public int[] distancias() {
+        return Arrays.copyOf(distancias, tamanho);
+    }
+}
@@ -0,0 +1,270 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// Os k menores caminhos sem ciclos entre uma origem e um destino (algoritmo de Yen).
+// Cada novo caminho é o menor "desvio" de um caminho já aceito: para cada vértice de desvio (spur)
+// do último caminho aceito, mantém o trecho inicial (raiz) e procura o menor caminho do desvio até o
+// destino sem passar pelos vértices da raiz e sem repetir a próxima aresta de caminhos já aceitos
+// que têm a mesma raiz. Os candidatos ficam em uma fila; o mais barato é aceito a cada rodada.
+// Otimizações em relação ao Yen "de livro":
+// - o grafo nunca é copiado nem alterado: vértices e arestas bloqueados são máscaras com época;
+// - um Dijkstra reverso a partir do destino é feito uma vez só. A distância até o destino serve de
+//   heurística (A*) para as buscas de desvio, que param ao chegar no destino; e se o caminho da
+//   própria árvore reversa não esbarra em nada bloqueado, ele já é o desvio, sem busca nenhuma;
+// - a raiz cresce um vértice por vez: o bloqueio dos vértices da raiz e a lista de caminhos que
+//   compartilham a raiz são atualizados incrementalmente em vez de recalculados a cada desvio.
+// Cada instância guarda seus próprios espaços de busca: use uma instância por thread.
+public class KCaminhosMinimos {
+    private final EspacoDeBusca ws;        // Buscas de desvio
+    private final EspacoDeBusca paraDestino; // Dijkstra reverso: distância de cada vértice até o destino
+
+    private final int[] verticeBloqueado; // verticeBloqueado[v] == epocaRaiz: v está na raiz atual
+    private final int[] destinoBloqueado; // destinoBloqueado[v] == epocaDesvio: aresta desvio -> v proibida
+    private int epocaRaiz;
+    private int epocaDesvio;
+
+    private List<Caminho> aceitos = new ArrayList<>();
+    private int buscasDeDesvio;    // Desvios que precisaram de uma busca A*
+    private int desviosPelaArvore; // Desvios resolvidos direto pela árvore reversa
+
+    // Construtor: recebe a quantidade de vértices do grafo que será consultado
+    public KCaminhosMinimos(int quantidadeVertices) {
+        ws = new EspacoDeBusca(quantidadeVertices);
+        paraDestino = new EspacoDeBusca(quantidadeVertices);
+        verticeBloqueado = new int[quantidadeVertices];
+        destinoBloqueado = new int[quantidadeVertices];
+    }
+
+    // Calcula até k caminhos sem ciclos da origem ao destino, em ordem crescente de custo.
+    // Cada caminho é a sequência de vértices, da origem ao destino (menos de k se não houver tantos)
+    public int[][] executar(Grafo g, int origem, int destino, int k) {
+        aceitos = new ArrayList<>();
+        buscasDeDesvio = 0;
+        desviosPelaArvore = 0;
+        if (k <= 0) return new int[0][];
+
+        new Dijkstra().executarReverso(g, destino, paraDestino);
+        if (!paraDestino.alcancado(origem)) return new int[0][];
+
+        // O primeiro caminho é o da própria árvore reversa (nada bloqueado)
+        novaRaiz();
+        novoDesvio();
+        aceitos.add(caminhoPelaArvore(origem, destino, new int[0], new int[0], 0));
+
+        PriorityQueue<Caminho> candidatos = new PriorityQueue<>();
+        Set<Caminho> conhecidos = new HashSet<>(aceitos);
+
+        while (aceitos.size() < k) {
+            Caminho anterior = aceitos.get(aceitos.size() - 1);
+            novaRaiz();
+
+            // Caminhos aceitos que começam com a mesma raiz que 'anterior' (filtrados a cada vértice)
+            List<Caminho> compartilham = new ArrayList<>(aceitos);
+
+            for (int i = 0; i < anterior.vertices.length - 1; i++) {
+                int desvio = anterior.vertices[i];
+                if (i > 0) {
+                    verticeBloqueado[anterior.vertices[i - 1]] = epocaRaiz; // A raiz ganhou um vértice
+                    int posicao = i;
+                    compartilham.removeIf(c -> c.vertices.length <= posicao || c.vertices[posicao] != desvio);
+                }
+
+                // Proíbe a próxima aresta de todo caminho aceito que tem esta mesma raiz
+                novoDesvio();
+                for (Caminho c : compartilham) destinoBloqueado[c.vertices[i + 1]] = epocaDesvio;
+
+                int[] raiz = Arrays.copyOf(anterior.vertices, i);
+                int[] custoRaiz = Arrays.copyOf(anterior.acumulado, i);
+                int base = anterior.acumulado[i]; // Custo da raiz até o desvio
+                Caminho candidato = caminhoPelaArvore(desvio, destino, raiz, custoRaiz, base);
+                if (candidato != null) {
+                    desviosPelaArvore++;
+                } else {
+                    candidato = buscarDesvio(g, desvio, destino, raiz, custoRaiz, base);
+                }
+
+                if (candidato != null && conhecidos.add(candidato)) candidatos.add(candidato);
+            }
+
+            if (candidatos.isEmpty()) break; // Não há mais caminhos sem ciclos
+            aceitos.add(candidatos.poll());
+        }
+
+        int[][] resultado = new int[aceitos.size()][];
+        for (int i = 0; i < resultado.length; i++) resultado[i] = aceitos.get(i).vertices;
+        return resultado;
+    }
+
+    // Custo do i-ésimo caminho retornado pela última chamada de executar
+    public int custo(int i) {
+        return aceitos.get(i).custo();
+    }
+
+    // Quantidade de desvios que precisaram de busca na última chamada
+    public int buscasDeDesvio() {
+        return buscasDeDesvio;
+    }
+
+    // Quantidade de desvios resolvidos pela árvore reversa, sem busca, na última chamada
+    public int desviosPelaArvore() {
+        return desviosPelaArvore;
+    }
+
+    // Segue a árvore do Dijkstra reverso do desvio até o destino. Retorna raiz + esse trecho,
+    // ou null se o trecho usa um vértice da raiz ou a primeira aresta está proibida
+    private Caminho caminhoPelaArvore(int desvio, int destino, int[] raiz, int[] custoRaiz, int base) {
+        int tamanho = 1;
+        for (int v = desvio; v != destino; v = paraDestino.predecessor(v)) {
+            int proximo = paraDestino.predecessor(v);
+            if (verticeBloqueado[proximo] == epocaRaiz) return null;
+            if (v == desvio && destinoBloqueado[proximo] == epocaDesvio) return null;
+            tamanho++;
+        }
+
+        int[] vertices = Arrays.copyOf(raiz, raiz.length + tamanho);
+        int[] acumulado = Arrays.copyOf(custoRaiz, raiz.length + tamanho);
+        int p = raiz.length;
+        int distanciaDesvio = paraDestino.distancia(desvio);
+        for (int v = desvio; ; v = paraDestino.predecessor(v)) {
+            vertices[p] = v;
+            acumulado[p] = base + distanciaDesvio - paraDestino.distancia(v);
+            p++;
+            if (v == destino) break;
+        }
+        return new Caminho(vertices, acumulado);
+    }
+
+    // Busca A* do desvio até o destino evitando a raiz e as arestas proibidas.
+    // A distância até o destino no grafo completo nunca é maior que no grafo com bloqueios,
+    // então continua sendo uma heurística admissível (e consistente) para esta busca.
+    private Caminho buscarDesvio(Grafo g, int desvio, int destino, int[] raiz, int[] custoRaiz, int base) {
+        buscasDeDesvio++;
+        ws.reiniciar();
+        ws.atualizar(desvio, 0, -1);
+
+        FilaDePrioridade q = ws.fila();
+        q.insert(desvio, paraDestino.distancia(desvio));
+
+        while (!q.isEmpty()) {
+            int u = q.extractMin();
+            if (u == destino) break;
+
+            int du = ws.distancia(u);
+            for (Grafo.Aresta aresta : g.vizinhos(u)) {
+                int v = aresta.destino;
+                if (verticeBloqueado[v] == epocaRaiz) continue;
+                if (u == desvio && destinoBloqueado[v] == epocaDesvio) continue;
+                if (!paraDestino.alcancado(v)) continue; // Daqui não se chega ao destino
+
+                int novaDistancia = du + aresta.peso;
+                if (novaDistancia < ws.distancia(v)) {
+                    ws.atualizar(v, novaDistancia, u);
+                    long prioridade = (long) novaDistancia + paraDestino.distancia(v);
+                    if (q.contains(v)) {
+                        q.decreaseKey(v, prioridade);
+                    } else {
+                        q.insert(v, prioridade);
+                    }
+                }
+            }
+        }
+        if (!ws.alcancado(destino)) return null;
+
+        int[] trecho = ws.caminhoAte(destino);
+        int[] vertices = Arrays.copyOf(raiz, raiz.length + trecho.length);
+        int[] acumulado = Arrays.copyOf(custoRaiz, raiz.length + trecho.length);
+        for (int j = 0; j < trecho.length; j++) {
+            vertices[raiz.length + j] = trecho[j];
+            acumulado[raiz.length + j] = base + ws.distancia(trecho[j]);
+        }
+        return new Caminho(vertices, acumulado);
+    }
+
+    private void novaRaiz() {
+        if (++epocaRaiz == Integer.MAX_VALUE) {
+            Arrays.fill(verticeBloqueado, 0);
+            epocaRaiz = 1;
+        }
+    }
+
+    private void novoDesvio() {
+        if (++epocaDesvio == Integer.MAX_VALUE) {
+            Arrays.fill(destinoBloqueado, 0);
+            epocaDesvio = 1;
+        }
+    }
+
+    // Caminho candidato: vértices e custo acumulado da origem até cada um deles.
+    // Dois caminhos são iguais se passam pelos mesmos vértices na mesma ordem
+    private static class Caminho implements Comparable<Caminho> {
+        final int[] vertices;
+        final int[] acumulado; // acumulado[i] = custo da origem até vertices[i]
+
+        Caminho(int[] vertices, int[] acumulado) {
+            this.vertices = vertices;
+            this.acumulado = acumulado;
+        }
+
+        int custo() {
+            return acumulado[acumulado.length - 1];
+        }
+
+        @Override
+        public int compareTo(Caminho outro) {
+            if (custo() != outro.custo()) return Integer.compare(custo(), outro.custo());
+            return Integer.compare(vertices.length, outro.vertices.length);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Caminho && Arrays.equals(vertices, ((Caminho) o).vertices);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(vertices);
+        }
+    }
+
+    // Exemplo: as 5 melhores rotas entre os cantos opostos de uma grade
+    public static void main(String[] args) {
+        int lado = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        int k = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        int n = lado * lado;
+        String[] nomes = new String[n];
+        for (int i = 0; i < n; i++) nomes[i] = "v" + i;
+        Grafo g = new Grafo(nomes);
+        var rnd = new java.util.Random(42);
+        for (int l = 0; l < lado; l++) {
+            for (int c = 0; c < lado; c++) {
+                int v = l * lado + c;
+                if (c + 1 < lado) {
+                    int peso = 1 + rnd.nextInt(10);
+                    g.adicionarAresta(v, v + 1, peso);
+                    g.adicionarAresta(v + 1, v, peso);
+                }
+                if (l + 1 < lado) {
+                    int peso = 1 + rnd.nextInt(10);
+                    g.adicionarAresta(v, v + lado, peso);
+                    g.adicionarAresta(v + lado, v, peso);
+                }
+            }
+        }
+
+        var yen = new KCaminhosMinimos(n);
+        long inicio = System.nanoTime();
+        int[][] caminhos = yen.executar(g, 0, n - 1, k);
+        long fim = System.nanoTime();
+
+        for (int i = 0; i < caminhos.length; i++) {
+            System.out.printf("Caminho %d: custo %d, %d vértices\n", i + 1, yen.custo(i), caminhos[i].length);
+        }
+        System.out.printf("%.1f ms, %d desvios pela árvore, %d buscas de desvio\n",
+            (fim - inicio) / 1e6, yen.desviosPelaArvore(), yen.buscasDeDesvio());
+    }
+}
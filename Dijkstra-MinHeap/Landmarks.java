@@ -0,0 +1,146 @@
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// Heurística ALT (A*, Landmarks e desigualdade triangular).
+// Pré-processamento: escolhe alguns vértices "marco" (landmarks) e guarda, para cada marco L,
+// a distância de L até todos os vértices e de todos os vértices até L.
+// Consulta: pela desigualdade triangular, para qualquer marco L,
+//   dist(v, t) >= dist(L, t) - dist(L, v)   e   dist(v, t) >= dist(v, L) - dist(t, L)
+// O maior desses limites é um limite inferior admissível (e consistente) para a BuscaAEstrela.
+// As tabelas só são lidas durante as consultas, então uma instância pode ser compartilhada entre threads.
+public class Landmarks implements Heuristica {
+    private static final int ASSINATURA = 0x414C5431; // "ALT1": identifica o formato do arquivo
+
+    private final int[] marcos;          // Índices dos vértices escolhidos como marcos
+    private final int[][] distanciaDe;   // distanciaDe[i][v] = dist(marcos[i], v)
+    private final int[][] distanciaAte;  // distanciaAte[i][v] = dist(v, marcos[i])
+
+    private Landmarks(int[] marcos, int[][] distanciaDe, int[][] distanciaAte) {
+        this.marcos = marcos;
+        this.distanciaDe = distanciaDe;
+        this.distanciaAte = distanciaAte;
+    }
+
+    // Pré-processamento: escolhe 'quantidade' marcos pelo critério do "mais distante"
+    // (cada novo marco é o vértice mais longe dos marcos já escolhidos) e calcula suas tabelas
+    public static Landmarks calcular(Grafo g, int quantidade) {
+        int n = g.quantidadeVertices();
+        quantidade = Math.min(quantidade, n);
+        var dijkstra = new Dijkstra();
+        var ws = new EspacoDeBusca(n);
+
+        int[] marcos = new int[quantidade];
+        int[][] distanciaDe = new int[quantidade][];
+        int[][] distanciaAte = new int[quantidade][];
+
+        // menorDistancia[v] = menor distância de um marco já escolhido até v
+        long[] menorDistancia = new long[n];
+        java.util.Arrays.fill(menorDistancia, Long.MAX_VALUE);
+
+        // O primeiro marco é o vértice mais distante do vértice 0
+        dijkstra.executar(g, 0, ws);
+        int proximo = maisDistante(ws, n, null);
+
+        for (int i = 0; i < quantidade; i++) {
+            marcos[i] = proximo;
+
+            dijkstra.executar(g, proximo, ws);
+            distanciaDe[i] = copiarDistancias(ws, n);
+            dijkstra.executarReverso(g, proximo, ws);
+            distanciaAte[i] = copiarDistancias(ws, n);
+
+            for (int v = 0; v < n; v++) {
+                if (distanciaDe[i][v] != EspacoDeBusca.INFINITO) {
+                    menorDistancia[v] = Math.min(menorDistancia[v], distanciaDe[i][v]);
+                }
+            }
+            proximo = maisDistante(null, n, menorDistancia);
+        }
+        return new Landmarks(marcos, distanciaDe, distanciaAte);
+    }
+
+    // Vértice alcançado mais distante (pelo EspacoDeBusca ou pelo vetor de menores distâncias)
+    private static int maisDistante(EspacoDeBusca ws, int n, long[] menorDistancia) {
+        int melhor = 0;
+        long maior = -1;
+        for (int v = 0; v < n; v++) {
+            long d = ws != null ? ws.distancia(v) : menorDistancia[v];
+            if (d == EspacoDeBusca.INFINITO || d == Long.MAX_VALUE) continue; // Não alcançado
+            if (d > maior) {
+                maior = d;
+                melhor = v;
+            }
+        }
+        return melhor;
+    }
+
+    private static int[] copiarDistancias(EspacoDeBusca ws, int n) {
+        int[] d = new int[n];
+        for (int v = 0; v < n; v++) d[v] = ws.distancia(v);
+        return d;
+    }
+
+    // Limite inferior para dist(v, destino) usando a desigualdade triangular com cada marco
+    @Override
+    public int estimativa(int v, int destino) {
+        int melhor = 0;
+        for (int i = 0; i < marcos.length; i++) {
+            int[] de = distanciaDe[i];
+            int[] ate = distanciaAte[i];
+
+            // dist(L, t) - dist(L, v)
+            if (de[v] != EspacoDeBusca.INFINITO && de[destino] != EspacoDeBusca.INFINITO) {
+                melhor = Math.max(melhor, de[destino] - de[v]);
+            }
+            // dist(v, L) - dist(t, L)
+            if (ate[v] != EspacoDeBusca.INFINITO && ate[destino] != EspacoDeBusca.INFINITO) {
+                melhor = Math.max(melhor, ate[v] - ate[destino]);
+            }
+        }
+        return melhor;
+    }
+
+    // Índices dos vértices usados como marcos
+    public int[] marcos() {
+        return marcos.clone();
+    }
+
+    // Grava as tabelas em um arquivo binário para não repetir o pré-processamento
+    // Formato: assinatura, n, quantidade de marcos, marcos[], e para cada marco distanciaDe[] e distanciaAte[]
+    public void salvar(Path arquivo) throws IOException {
+        int n = marcos.length > 0 ? distanciaDe[0].length : 0;
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(arquivo)))) {
+            out.writeInt(ASSINATURA);
+            out.writeInt(n);
+            out.writeInt(marcos.length);
+            for (int m : marcos) out.writeInt(m);
+            for (int i = 0; i < marcos.length; i++) {
+                for (int v = 0; v < n; v++) out.writeInt(distanciaDe[i][v]);
+                for (int v = 0; v < n; v++) out.writeInt(distanciaAte[i][v]);
+            }
+        }
+    }
+
+    // Lê as tabelas gravadas por salvar(); o grafo informado precisa ter a mesma quantidade de vértices
+    public static Landmarks carregar(Path arquivo, Grafo g) throws IOException {
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo)))) {
+            if (in.readInt() != ASSINATURA) throw new IOException("Arquivo de landmarks inválido: " + arquivo);
+            int n = in.readInt();
+            if (n != g.quantidadeVertices()) {
+                throw new IOException("Landmarks calculados para " + n + " vértices, mas o grafo tem " + g.quantidadeVertices());
+            }
+            int quantidade = in.readInt();
+            int[] marcos = new int[quantidade];
+            for (int i = 0; i < quantidade; i++) marcos[i] = in.readInt();
+
+            int[][] distanciaDe = new int[quantidade][n];
+            int[][] distanciaAte = new int[quantidade][n];
+            for (int i = 0; i < quantidade; i++) {
+                for (int v = 0; v < n; v++) distanciaDe[i][v] = in.readInt();
+                for (int v = 0; v < n; v++) distanciaAte[i][v] = in.readInt();
+            }
+            return new Landmarks(marcos, distanciaDe, distanciaAte);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+
+// Tabela de distâncias entre um conjunto de origens e um conjunto de destinos (muitos-para-muitos).
+// Cada origem roda um Dijkstra de um-para-muitos que para assim que todos os destinos saíram do heap
+// (a distância deles já é definitiva), em vez de calcular a árvore do grafo inteiro.
+// As origens são divididas entre as threads de um DijkstraEmLote, cada uma com o seu EspacoDeBusca.
+// O resultado é um único vetor int[] linha a linha: matriz[i * destinos.length + j] é a distância
+// de origens[i] até destinos[j] (EspacoDeBusca.INFINITO se não houver caminho).
+public class MatrizDeDistancias implements AutoCloseable {
+    private final DijkstraEmLote lote; // Threads e espaços de busca reaproveitados entre as origens
+
+    // Construtor: cria um pool com a quantidade de threads informada (ex.: número de núcleos)
+    public MatrizDeDistancias(int threads) {
+        this.lote = new DijkstraEmLote(threads);
+    }
+
+    // Construtor que usa um executor já existente (que continua sendo de quem o criou)
+    public MatrizDeDistancias(ExecutorService executor) {
+        this.lote = new DijkstraEmLote(executor);
+    }
+
+    // Calcula a matriz de distâncias origens x destinos
+    public int[] calcular(Grafo g, int[] origens, int[] destinos) {
+        int n = g.quantidadeVertices();
+        if (origens.length == 0 || destinos.length == 0) return new int[0];
+
+        // Marca os destinos uma vez só; o vetor é apenas lido pelas threads
+        boolean[] ehDestino = new boolean[n];
+        int distintos = 0;
+        for (int d : destinos) {
+            if (!ehDestino[d]) distintos++;
+            ehDestino[d] = true;
+        }
+        int quantidadeDestinos = distintos;
+
+        // O vetor único precisa caber em um int[]: origens x destinos não pode estourar
+        int tamanho;
+        try {
+            tamanho = Math.multiplyExact(origens.length, destinos.length);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Matriz " + origens.length + " x " + destinos.length + " não cabe em um vetor", e);
+        }
+
+        var dijkstra = new Dijkstra(); // Sem estado: pode ser compartilhado pelas threads
+        int[] matriz = new int[tamanho];
+        lote.paraCadaOrigem(n, origens.length, (linha, ws) -> {
+            dijkstra.executarAteDestinos(g, origens[linha], ehDestino, quantidadeDestinos, ws);
+
+            // Cada tarefa escreve só na sua linha da matriz
+            int base = linha * destinos.length;
+            for (int j = 0; j < destinos.length; j++) matriz[base + j] = ws.distancia(destinos[j]);
+        });
+        return matriz;
+    }
+
+    @Override
+    public void close() {
+        lote.close();
+    }
+
+    // Calcula uma matriz entre vértices próximos de um grafo em anel e confere com o Dijkstra completo
+    // Uso: java MatrizDeDistancias [vertices] [origens] [destinos] [threads]
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int quantidadeOrigens = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int quantidadeDestinos = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+
+        // Anel com atalhos locais: destinos próximos das origens, como em uma cidade dentro de um país
+        var rnd = new Random(42);
+        String[] nomes = new String[n];
+        for (int i = 0; i < n; i++) nomes[i] = "v" + i;
+        Grafo g = new Grafo(nomes);
+        for (int u = 0; u < n; u++) {
+            g.adicionarAresta(u, (u + 1) % n, 1 + rnd.nextInt(10));
+            g.adicionarAresta((u + 1) % n, u, 1 + rnd.nextInt(10));
+            g.adicionarAresta(u, (u + 1 + rnd.nextInt(50)) % n, 1 + rnd.nextInt(100));
+        }
+
+        int[] origens = new int[quantidadeOrigens];
+        int[] destinos = new int[quantidadeDestinos];
+        for (int i = 0; i < origens.length; i++) origens[i] = rnd.nextInt(1000);
+        for (int j = 0; j < destinos.length; j++) destinos[j] = rnd.nextInt(1000);
+
+        try (var calculadora = new MatrizDeDistancias(threads)) {
+            long inicio = System.nanoTime();
+            int[] matriz = calculadora.calcular(g, origens, destinos);
+            long fim = System.nanoTime();
+            System.out.printf("Matriz %d x %d em %.1f ms (%d threads)\n",
+                origens.length, destinos.length, (fim - inicio) / 1e6, threads);
+
+            // Confere algumas linhas com o Dijkstra completo
+            var ws = new EspacoDeBusca(n);
+            for (int i = 0; i < Math.min(5, origens.length); i++) {
+                new Dijkstra().executar(g, origens[i], ws);
+                for (int j = 0; j < destinos.length; j++) {
+                    if (matriz[i * destinos.length + j] != ws.distancia(destinos[j])) {
+                        throw new IllegalStateException("Distância diferente em (" + i + ", " + j + ")");
+                    }
+                }
+            }
+            System.out.println("Conferência com o Dijkstra completo: ok");
+        }
+    }
+}
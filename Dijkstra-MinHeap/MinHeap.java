@@ -1,24 +1,23 @@
-import java.util.HashMap;
-import java.util.Map;
-
 // Implementação manual de uma fila de prioridade usando Min-Heap para vértices de um grafo
 public class MinHeap {
     private Grafo.Vertice[] A; // Array do heap, começando no índice 1 (posição 0 não usada)
     private int heapSize; // Quantos elementos estão atualmente no heap
 
     // Mapeia o índice do vértice (g.vertices[i].indice) para a posição dele dentro do array A
-    private Map<Integer, Integer> posicao;
+    // Vetor primitivo em vez de HashMap: sem boxing de Integer nem hashing no laço do Dijkstra
+    // Posição 0 significa que o vértice não está (mais) no heap
+    private int[] posicao;
 
     // Construtor: recebe os vértices do grafo e constrói um heap mínimo com base em suas distâncias
     public MinHeap(Grafo.Vertice[] vertices) {
         heapSize = vertices.length;
         A = new Grafo.Vertice[heapSize + 1]; // heap começa do índice 1
-        posicao = new HashMap<>();
+        posicao = new int[heapSize];
 
         // Preenche o array e o map de posições
         for (int i = 0; i < heapSize; i++) {
             A[i + 1] = vertices[i]; // pula índice 0
-            posicao.put(vertices[i].indice, i + 1); // guarda onde está o vértice com índice `indice`
+            posicao[vertices[i].indice] = i + 1; // guarda onde está o vértice com índice `indice`
         }
 
         // Organiza os elementos de A de acordo com a propriedade de Min-Heap
@@ -41,8 +40,8 @@ public class MinHeap {
         A[j] = temp;
 
         // Atualiza as posições após a troca
-        posicao.put(A[i].indice, i);
-        posicao.put(A[j].indice, j);
+        posicao[A[i].indice] = i;
+        posicao[A[j].indice] = j;
     }
 
     // Garante que a subárvore com raiz em `i` obedeça à propriedade de Min-Heap
@@ -80,7 +79,8 @@ public class MinHeap {
 
         Grafo.Vertice min = A[1]; // raiz
         A[1] = A[heapSize]; // move último elemento para a raiz
-        posicao.put(A[1].indice, 1); // atualiza posição no map
+        posicao[A[1].indice] = 1; // atualiza posição no vetor
+        posicao[min.indice] = 0; // o vértice extraído sai do heap
         heapSize--; // reduz tamanho do heap
         minHeapify(1); // reestabelece propriedade de min heap
 
@@ -89,7 +89,7 @@ public class MinHeap {
 
     // Atualiza a posição de um vértice no heap após redução de sua distância
     public void decreaseKey(Grafo.Vertice v) {
-        int i = posicao.get(v.indice); // pega a posição atual do vértice no heap
+        int i = posicao[v.indice]; // pega a posição atual do vértice no heap
 
         // "Sobe" o vértice enquanto a distância do pai for maior
         while (i > 1 && A[parent(i)].distancia > A[i].distancia) {
@@ -100,6 +100,6 @@ public class MinHeap {
 
     // Verifica se um vértice ainda está presente no heap
     public boolean contains(Grafo.Vertice v) {
-        return posicao.containsKey(v.indice) && posicao.get(v.indice) <= heapSize;
+        return posicao[v.indice] != 0;
     }
 }
\ No newline at end of file
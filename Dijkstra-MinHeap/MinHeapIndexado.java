@@ -0,0 +1,144 @@
+import java.util.Random;
+
+// Fila de prioridade mínima indexada pelo número do vértice (0 .. capacidade-1)
+// Diferente do MinHeap, não guarda objetos Vertice: tudo fica em vetores primitivos,
+// então insert, decreaseKey, extractMin e contains não alocam nada
+public class MinHeapIndexado implements FilaDePrioridade {
+    private final int[] heap;    // heap[i] = vértice na posição i (começa no índice 1, posição 0 não usada)
+    private final int[] posicao; // posicao[v] = posição de v dentro de heap (0 = não está no heap)
+    private final long[] chaves; // chaves[v] = prioridade atual do vértice v
+    private int heapSize;        // Quantos elementos estão atualmente no heap
+
+    // Construtor: recebe a quantidade máxima de vértices (normalmente g.quantidadeVertices())
+    public MinHeapIndexado(int capacidade) {
+        heap = new int[capacidade + 1];
+        posicao = new int[capacidade];
+        chaves = new long[capacidade];
+        heapSize = 0;
+    }
+
+    // Verifica se o heap está vazio
+    public boolean isEmpty() {
+        return heapSize < 1;
+    }
+
+    // Quantidade de vértices no heap
+    public int size() {
+        return heapSize;
+    }
+
+    // Verifica se um vértice está presente no heap
+    public boolean contains(int v) {
+        return posicao[v] != 0;
+    }
+
+    // Retorna a chave atual de um vértice que está no heap
+    public long chave(int v) {
+        return chaves[v];
+    }
+
+    // Retorna a menor chave do heap sem removê-la
+    public long chaveMinima() {
+        if (heapSize < 1) throw new RuntimeException("Heap vazio");
+        return chaves[heap[1]];
+    }
+
+    // Insere o vértice v com a chave informada no final do heap e o faz "subir"
+    public void insert(int v, long chave) {
+        if (posicao[v] != 0) throw new IllegalStateException("Vértice " + v + " já está no heap");
+        heapSize++;
+        heap[heapSize] = v;
+        posicao[v] = heapSize;
+        chaves[v] = chave;
+        subir(heapSize);
+    }
+
+    // Diminui a chave de um vértice que já está no heap e o faz "subir"
+    public void decreaseKey(int v, long chave) {
+        if (chave > chaves[v]) throw new IllegalArgumentException("Nova chave maior que a atual");
+        chaves[v] = chave;
+        subir(posicao[v]);
+    }
+
+    // Remove e retorna o vértice com a menor chave (posição 1 do heap)
+    public int extractMin() {
+        if (heapSize < 1) throw new RuntimeException("Heap vazio");
+
+        int min = heap[1]; // raiz
+        heap[1] = heap[heapSize]; // move último elemento para a raiz
+        posicao[heap[1]] = 1;
+        posicao[min] = 0; // o vértice extraído sai do heap
+        heapSize--;
+        if (heapSize > 0) descer(1); // reestabelece propriedade de min heap
+
+        return min;
+    }
+
+    // Esvazia o heap visitando apenas os elementos que ainda estão nele (não percorre a capacidade toda)
+    public void limpar() {
+        for (int i = 1; i <= heapSize; i++) {
+            posicao[heap[i]] = 0;
+        }
+        heapSize = 0;
+    }
+
+    // "Sobe" o elemento da posição i enquanto a chave do pai for maior
+    // Em vez de trocar a cada passo, desloca os pais para baixo e grava o elemento uma única vez
+    private void subir(int i) {
+        int v = heap[i];
+        long chave = chaves[v];
+        while (i > 1) {
+            int pai = heap[i / 2];
+            if (chaves[pai] <= chave) break;
+            heap[i] = pai;
+            posicao[pai] = i;
+            i = i / 2;
+        }
+        heap[i] = v;
+        posicao[v] = i;
+    }
+
+    // "Desce" o elemento da posição i trocando com o menor filho (versão iterativa do minHeapify)
+    private void descer(int i) {
+        int v = heap[i];
+        long chave = chaves[v];
+        while (2 * i <= heapSize) {
+            int filho = 2 * i;
+            if (filho < heapSize && chaves[heap[filho + 1]] < chaves[heap[filho]]) filho++;
+            if (chaves[heap[filho]] >= chave) break;
+            heap[i] = heap[filho];
+            posicao[heap[i]] = i;
+            i = filho;
+        }
+        heap[i] = v;
+        posicao[v] = i;
+    }
+
+    // Medição simples de vazão: insere n vértices com chaves aleatórias, faz n/2 decreaseKey e esvazia o heap
+    // Uso: java MinHeapIndexado [n]   (padrão: 10 milhões de vértices)
+    public static void main(String[] args) {
+        int n = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        var rnd = new Random(42);
+        var q = new MinHeapIndexado(n);
+
+        for (int rodada = 1; rodada <= 3; rodada++) { // as primeiras rodadas servem de aquecimento da JIT
+            long inicio = System.nanoTime();
+            for (int v = 0; v < n; v++) q.insert(v, rnd.nextInt(Integer.MAX_VALUE));
+            for (int i = 0; i < n / 2; i++) {
+                int v = rnd.nextInt(n);
+                q.decreaseKey(v, q.chave(v) / 2);
+            }
+            long anterior = Long.MIN_VALUE;
+            while (!q.isEmpty()) {
+                long chave = q.chaveMinima();
+                if (chave < anterior) throw new IllegalStateException("Ordem do heap violada");
+                anterior = chave;
+                q.extractMin();
+            }
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            long operacoes = n + n / 2 + n;
+            System.out.printf("Rodada %d: %d operações em %.2f s (%.1f milhões de operações/s)\n",
+                rodada, operacoes, segundos, operacoes / segundos / 1e6);
+        }
+    }
+}
@@ -81,6 +81,38 @@ public class Kruskal{
         return arvoreResultante; // árvore geradora mínima
     }
 
+    // Kruskal sobre um GrafoCompacto (GrafoCSR ou GrafoMapeado), sem criar um objeto Aresta por aresta do grafo:
+    // cada aresta vira uma chave long (peso nos 32 bits altos, posição no CSR nos 32 baixos),
+    // e ordenar esse vetor primitivo ordena as arestas por peso.
+    // Arestas não direcionadas aparecem duas vezes no CSR (ida e volta); a segunda é descartada
+    // pelo UnionFind, pois já liga vértices do mesmo conjunto.
+    public List<Aresta> kruskal(GrafoCompacto g){
+        int n = g.quantidadeVertices();
+        int m = g.quantidadeArestas();
+        long[] chaves = new long[m];
+        int[] origem = new int[m]; // origem[e] = vértice de onde sai a aresta e
+        for(int u = 0; u < n; u++){
+            for(int e = g.inicio(u); e < g.fim(u); e++){
+                origem[e] = u;
+                chaves[e] = ((long) g.peso(e) << 32) | e;
+            }
+        }
+        Arrays.sort(chaves);
+
+        var uf = new UnionFind(n);
+        var arvoreResultante = new ArrayList<Aresta>();
+        for(long chave : chaves){
+            int e = (int) chave; // 32 bits baixos = posição da aresta
+            int u = origem[e], v = g.destino(e);
+            if(uf.find(u) != uf.find(v)){
+                uf.union(u, v);
+                arvoreResultante.add(new Aresta(u, v, g.peso(e)));
+                if(arvoreResultante.size() == n - 1) break; // árvore completa
+            }
+        }
+        return arvoreResultante;
+    }
+
     public static void main(String[] args){
 
         int n = 4; // índice dos vértices vai de 0 até 3